@@ -0,0 +1,32 @@
+package com.dicoding.test.bench;
+
+import com.dicoding.test.pages.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * BenchPage membuka aksi protected di BasePage agar dapat diukur langsung oleh benchmark
+ */
+public class BenchPage extends BasePage {
+
+    public BenchPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public boolean displayed(By locator) {
+        return isElementDisplayed(locator);
+    }
+
+    public boolean present(By locator) {
+        return isElementPresent(locator);
+    }
+
+    public void typeText(By locator, String text) {
+        type(locator, text);
+    }
+
+    public void pageLoad() {
+        waitForPageLoad();
+    }
+}
@@ -0,0 +1,31 @@
+package com.dicoding.test.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * BenchmarkRunner menjalankan benchmark JMH dan menyimpan hasilnya dalam format JSON
+ * Pilih benchmark dengan -Dbench.include (regex) dan lokasi hasil dengan -Dbench.result
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = System.getProperty("bench.include", BenchmarkRunner.class.getPackage().getName() + ".");
+        String result = System.getProperty("bench.result", "target/jmh-result.json");
+        new File(result).getAbsoluteFile().getParentFile().mkdirs();
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .jvmArgsAppend("-Dbench.pages=" + System.getProperty("bench.pages", "src/test/resources/bench"))
+                .shouldFailOnError(true)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,58 @@
+package com.dicoding.test.bench;
+
+import com.dicoding.test.base.DriverFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * BrowserState menyediakan satu sesi Firefox headless untuk setiap trial benchmark
+ * Halaman yang dibuka adalah salinan statis di src/test/resources/bench, sehingga hasil tidak dipengaruhi jaringan
+ */
+@State(Scope.Benchmark)
+public class BrowserState {
+    private static final String PAGES_DIR = System.getProperty("bench.pages", "src/test/resources/bench");
+
+    WebDriver driver;
+    WebDriverWait wait;
+    BenchPage page;
+
+    @Setup(Level.Trial)
+    public void startBrowser() {
+        driver = new DriverFactory(null, false).createDriver();
+        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        open("home.html");
+    }
+
+    @TearDown(Level.Trial)
+    public void quitBrowser() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    /**
+     * Metode untuk membuka halaman statis dan membuat page object baru untuknya
+     * @param fileName nama file di direktori halaman benchmark
+     */
+    void open(String fileName) {
+        driver.get(url(fileName));
+        page = new BenchPage(driver, wait);
+    }
+
+    /**
+     * Metode untuk mendapatkan URL file halaman benchmark
+     * @param fileName nama file di direktori halaman benchmark
+     * @return URL file://
+     */
+    static String url(String fileName) {
+        return Paths.get(PAGES_DIR, fileName).toAbsolutePath().toUri().toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.dicoding.test.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark biaya probe isElementDisplayed/isElementPresent untuk elemen yang ada (hit) dan tidak ada (miss)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DisplayedBenchmark {
+    private static final By VISIBLE = By.xpath("//img[contains(@alt, 'Dicoding')]");
+    private static final By HIDDEN = By.cssSelector(".alert-danger");
+    private static final By MISSING = By.cssSelector(".tidak-ada");
+
+    @Benchmark
+    public boolean displayedHit(BrowserState browser) {
+        return browser.page.displayed(VISIBLE);
+    }
+
+    @Benchmark
+    public boolean displayedHidden(BrowserState browser) {
+        return browser.page.displayed(HIDDEN);
+    }
+
+    @Benchmark
+    public boolean displayedMiss(BrowserState browser) {
+        return browser.page.displayed(MISSING);
+    }
+
+    @Benchmark
+    public boolean presentMiss(BrowserState browser) {
+        return browser.page.present(MISSING);
+    }
+}
@@ -0,0 +1,34 @@
+package com.dicoding.test.bench;
+
+import com.dicoding.test.base.DriverFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark waktu membuat sesi Firefox headless baru sampai halaman pertama terbuka, lalu menutupnya
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DriverStartupBenchmark {
+
+    @Benchmark
+    public void startAndQuit() {
+        WebDriver driver = new DriverFactory(null, false).createDriver();
+        try {
+            driver.get(BrowserState.url("home.html"));
+        } finally {
+            driver.quit();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.dicoding.test.bench;
+
+import com.dicoding.test.locators.XPathToCss;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark resolusi locator: XPath yang dipakai page object dibandingkan dengan CSS hasil XPathToCss
+ * Hanya XPath berbasis atribut yang dibandingkan, karena locator berbasis teks tidak memiliki CSS yang setara
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+    // Locator XPath sesuai HomePage/SearchResultPage
+    private static final Map<String, String> XPATHS = Map.of(
+            "logo", "//img[contains(@alt, 'Dicoding')]",
+            "searchInput", "//input[@placeholder='Apa yang ingin Anda pelajari?']",
+            "learningPathMenu", "//a[text()='Learning Path']",
+            "learningPathSection", "//h2[contains(text(), 'Learning Path')] | //a[text()='Learning Path']",
+            "loginButton", "//a[text()='Masuk']");
+
+    @State(Scope.Benchmark)
+    public static class XPathLocator {
+        @Param({"logo", "searchInput", "learningPathMenu", "learningPathSection", "loginButton"})
+        public String element;
+
+        private By locator;
+
+        @Setup
+        public void selectLocator() {
+            locator = By.xpath(XPATHS.get(element));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CssLocator {
+        @Param({"logo", "searchInput"})
+        public String element;
+
+        private By locator;
+
+        @Setup
+        public void selectLocator() {
+            String css = XPathToCss.translate(XPATHS.get(element));
+            if (css == null) {
+                throw new IllegalStateException("XPath " + element + " tidak memiliki CSS yang setara");
+            }
+            locator = By.cssSelector(css);
+        }
+    }
+
+    @Benchmark
+    public WebElement findByXpath(BrowserState browser, XPathLocator locator) {
+        return browser.driver.findElement(locator.locator);
+    }
+
+    @Benchmark
+    public WebElement findByCss(BrowserState browser, CssLocator locator) {
+        return browser.driver.findElement(locator.locator);
+    }
+}
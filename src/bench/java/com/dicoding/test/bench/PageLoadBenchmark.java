@@ -0,0 +1,35 @@
+package com.dicoding.test.bench;
+
+import com.dicoding.test.pages.HomePage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark memuat halaman statis lalu menunggu halaman siap dengan waitForPageLoad atau HomePage.isPageLoaded
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageLoadBenchmark {
+
+    @Benchmark
+    public void waitForPageLoad(BrowserState browser) {
+        browser.open("home.html");
+        browser.page.pageLoad();
+    }
+
+    @Benchmark
+    public boolean homePageIsPageLoaded(BrowserState browser) {
+        browser.open("home.html");
+        return new HomePage(browser.driver, browser.wait).isPageLoaded();
+    }
+}
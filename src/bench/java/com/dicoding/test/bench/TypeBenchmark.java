@@ -0,0 +1,47 @@
+package com.dicoding.test.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark mengisi input pencarian: BasePage.type (dengan cache elemen) dibandingkan alternatifnya
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeBenchmark {
+    private static final By SEARCH_INPUT = By.cssSelector("input[placeholder='Apa yang ingin Anda pelajari?']");
+    private static final String KEYWORD = "Java";
+    private static final String SET_VALUE_SCRIPT = "arguments[0].value = arguments[1];"
+            + "arguments[0].dispatchEvent(new Event('input', { bubbles: true }));";
+
+    @Benchmark
+    public void basePageType(BrowserState browser) {
+        browser.page.typeText(SEARCH_INPUT, KEYWORD);
+    }
+
+    @Benchmark
+    public void findAndSendKeys(BrowserState browser) {
+        WebElement input = browser.driver.findElement(SEARCH_INPUT);
+        input.clear();
+        input.sendKeys(KEYWORD);
+    }
+
+    @Benchmark
+    public Object setValueWithScript(BrowserState browser) {
+        WebElement input = browser.driver.findElement(SEARCH_INPUT);
+        return ((JavascriptExecutor) browser.driver).executeScript(SET_VALUE_SCRIPT, input, KEYWORD);
+    }
+}
@@ -0,0 +1,16 @@
+package com.dicoding.test.loom;
+
+/**
+ * Scenario adalah rangkaian langkah page object yang dijalankan terhadap satu sesi browser
+ * Scenario tidak menyimpan state di field atau ThreadLocal; semua state milik sesi ada di ScenarioSession
+ */
+@FunctionalInterface
+public interface Scenario {
+
+    /**
+     * Menjalankan langkah-langkah scenario
+     * @param session sesi browser beserta state miliknya
+     * @throws Exception jika scenario gagal
+     */
+    void run(ScenarioSession session) throws Exception;
+}
@@ -0,0 +1,162 @@
+package com.dicoding.test.loom;
+
+import com.dicoding.test.base.DriverFactory;
+import com.dicoding.test.base.LocalBrowserFarm;
+import com.dicoding.test.base.RemoteNodes;
+import com.dicoding.test.metrics.LatencyHistogram;
+import com.dicoding.test.utils.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ScenarioRunner menjalankan banyak sesi scenario secara bersamaan, satu virtual thread per sesi
+ * Sesi hampir selalu menunggu response HTTP dari geckodriver atau node remote; virtual thread yang menunggu
+ * dilepas dari carrier thread, sehingga ratusan sesi hanya memakai beberapa platform thread.
+ * Jumlah browser yang hidup bersamaan dibatasi semaphore sesuai kapasitas browser yang tersedia
+ */
+public final class ScenarioRunner {
+    private static final Logger logger = LogManager.getLogger(ScenarioRunner.class);
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final DriverFactory factory;
+    private final String baseUrl;
+    private final int browserLimit;
+    private final Semaphore browsers;
+
+    /**
+     * Ringkasan satu kali run
+     * @param sessions jumlah sesi yang dijalankan
+     * @param browsers jumlah maksimum browser bersamaan
+     * @param failed jumlah sesi yang gagal
+     * @param wallMillis waktu total
+     * @param latency durasi scenario setiap sesi yang berhasil, tanpa startup browser
+     * @param peakPlatformThreads jumlah platform thread terbanyak di JVM selama run
+     */
+    public record Summary(int sessions, int browsers, int failed, long wallMillis, LatencyHistogram latency,
+                          int peakPlatformThreads) {
+
+        @Override
+        public String toString() {
+            return String.format("%d sesi (%d gagal) dengan maksimum %d browser dalam %.1f detik, "
+                            + "scenario p50=%.0f ms p95=%.0f ms, puncak platform thread=%d",
+                    sessions, failed, browsers, wallMillis / 1000.0, latency.getPercentileMillis(50),
+                    latency.getPercentileMillis(95), peakPlatformThreads);
+        }
+    }
+
+    /**
+     * Konstruktor untuk ScenarioRunner
+     * @param factory factory untuk membuat sesi browser
+     * @param baseUrl URL yang dibuka setiap sesi sebelum scenario dijalankan
+     * @param browserLimit jumlah maksimum browser yang hidup bersamaan
+     */
+    public ScenarioRunner(DriverFactory factory, String baseUrl, int browserLimit) {
+        this.factory = factory;
+        this.baseUrl = baseUrl;
+        this.browserLimit = Math.max(1, browserLimit);
+        this.browsers = new Semaphore(this.browserLimit, true);
+    }
+
+    /**
+     * Metode untuk menjalankan scenario di sejumlah sesi
+     * Executor ditutup dengan try-with-resources, sehingga metode ini baru kembali setelah semua sesi selesai
+     * @param scenario scenario yang dijalankan setiap sesi
+     * @param sessions jumlah sesi
+     * @return ringkasan run
+     */
+    public Summary run(Scenario scenario, int sessions) {
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicInteger failed = new AtomicInteger();
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= sessions; i++) {
+                int id = i;
+                executor.submit(() -> runSession(id, scenario, latency, failed));
+            }
+        }
+        return new Summary(sessions, browserLimit, failed.get(), (System.nanoTime() - start) / 1_000_000, latency,
+                ManagementFactory.getThreadMXBean().getPeakThreadCount());
+    }
+
+    private void runSession(int id, Scenario scenario, LatencyHistogram latency, AtomicInteger failed) {
+        try {
+            // Sesi yang menunggu browser hanya berupa virtual thread yang parkir, tanpa stack platform thread
+            browsers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+            return;
+        }
+        WebDriver driver = null;
+        try {
+            driver = factory.createDriver();
+            factory.openInitialPage(driver, baseUrl);
+            ScenarioSession session = new ScenarioSession(id, driver, new WebDriverWait(driver, TIMEOUT));
+            long start = System.nanoTime();
+            scenario.run(session);
+            latency.record(System.nanoTime() - start);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            logger.warn("Scenario sesi {} gagal", id, e);
+        } finally {
+            if (driver != null) {
+                try {
+                    factory.quitDriver(driver);
+                } catch (RuntimeException e) {
+                    logger.error("Gagal menutup browser sesi {}", id, e);
+                }
+            }
+            browsers.release();
+        }
+    }
+
+    /**
+     * Menjalankan scenario pencarian lalu kembali ke halaman utama di banyak sesi
+     * Property: loom.sessions (default 100), loom.browsers, loom.keyword (default android), serta
+     * base.url, driver.remote, dan farm.nodes seperti pada suite TestNG
+     */
+    public static void main(String[] args) throws IOException {
+        int sessions = TestConfig.getInt("loom.sessions", 100);
+        String remoteUrl = TestConfig.getString("driver.remote", null);
+        int farmNodes = TestConfig.getInt("farm.nodes", 0);
+        int farmSessions = TestConfig.getInt("farm.maxSessions", 2);
+
+        DriverFactory factory = new DriverFactory(null, false);
+        LocalBrowserFarm farm = null;
+        // Tanpa node remote, setiap browser adalah proses lokal; kapasitas default mengikuti jumlah CPU
+        int defaultBrowsers = Runtime.getRuntime().availableProcessors();
+        if (remoteUrl != null) {
+            factory.setRemoteNodes(RemoteNodes.parse(remoteUrl));
+        } else if (farmNodes > 0) {
+            farm = new LocalBrowserFarm(farmNodes, TestConfig.getInt("farm.basePort", 0), farmSessions,
+                    Paths.get("test-output", "farm"));
+            farm.start();
+            factory.setRemoteNodes(new RemoteNodes(farm.getNodeUrls()));
+            defaultBrowsers = farmNodes * farmSessions;
+        }
+        try {
+            ScenarioRunner runner = new ScenarioRunner(factory, TestConfig.getBaseUrl(),
+                    TestConfig.getInt("loom.browsers", defaultBrowsers));
+            Summary summary = runner.run(Scenarios.searchAndReturnHome(TestConfig.getString("loom.keyword", "android")),
+                    sessions);
+            logger.info("Scenario selesai: {}", summary);
+        } finally {
+            if (farm != null) {
+                farm.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.dicoding.test.loom;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * ScenarioSession berisi semua state milik satu sesi scenario
+ * State diteruskan sebagai parameter, bukan disimpan di ThreadLocal seperti BaseTest, karena setiap sesi
+ * berjalan di virtual thread sendiri dan ratusan ThreadLocal berumur pendek hanya menambah beban memori
+ * @param id nomor sesi
+ * @param driver sesi browser
+ * @param driverWait WebDriverWait untuk sesi browser
+ */
+public record ScenarioSession(int id, WebDriver driver, WebDriverWait driverWait) {
+}
@@ -0,0 +1,31 @@
+package com.dicoding.test.loom;
+
+import com.dicoding.test.pages.HomePage;
+import com.dicoding.test.pages.SearchResultPage;
+
+/**
+ * Scenarios berisi scenario page object yang tersedia untuk ScenarioRunner
+ */
+public final class Scenarios {
+
+    private Scenarios() {
+    }
+
+    /**
+     * Scenario pencarian dari halaman utama lalu kembali ke halaman utama melalui logo
+     * @param keyword kata kunci pencarian
+     * @return scenario
+     */
+    public static Scenario searchAndReturnHome(String keyword) {
+        return session -> {
+            HomePage homePage = new HomePage(session.driver(), session.driverWait());
+            SearchResultPage resultPage = homePage.search(keyword);
+            if (!resultPage.isPageLoaded()) {
+                throw new IllegalStateException("Halaman hasil pencarian tidak dimuat untuk sesi " + session.id());
+            }
+            if (!resultPage.goToHomePage().isPageLoaded()) {
+                throw new IllegalStateException("Halaman utama tidak dimuat kembali untuk sesi " + session.id());
+            }
+        };
+    }
+}
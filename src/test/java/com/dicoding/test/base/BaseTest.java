@@ -2,93 +2,280 @@ package com.dicoding.test.base;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.dicoding.test.listeners.ScheduleInterceptor;
+import com.dicoding.test.locators.LocatorStats;
+import com.dicoding.test.logging.TestLogContext;
+import com.dicoding.test.metrics.LatencyHistogram;
+import com.dicoding.test.metrics.StepMetrics;
+import com.dicoding.test.metrics.WaitMetrics;
+import com.dicoding.test.network.FilteringProxy;
+import com.dicoding.test.network.FixtureServer;
+import com.dicoding.test.network.FixtureStore;
+import com.dicoding.test.network.HarWriter;
+import com.dicoding.test.network.NetworkEntry;
+import com.dicoding.test.network.NetworkRecorder;
+import com.dicoding.test.network.RequestFilter;
+import com.dicoding.test.pages.ElementCache;
+import com.dicoding.test.report.JsonlReportRenderer;
+import com.dicoding.test.report.JsonlReporter;
+import com.dicoding.test.utils.TestConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
-import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * BaseTest adalah kelas dasar untuk semua test case
  * Kelas ini menangani setup dan teardown WebDriver serta konfigurasi reporting
  */
 public class BaseTest {
-    protected WebDriver driver;
-    protected WebDriverWait wait;
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
     protected static ExtentReports extent;
-    protected ExtentTest test;
     
-    private static final String BASE_URL = "https://www.dicoding.com";
+    // Konteks per thread agar test dapat dijalankan paralel tanpa saling bertukar sesi
+    private static final ThreadLocal<WebDriver> driverContext = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriverWait> waitContext = new ThreadLocal<>();
+    private static final ThreadLocal<ExtentTest> testContext = new ThreadLocal<>();
+    
+    private static final String FIXTURE_DIR = "src/test/resources/fixtures";
     private static final int TIMEOUT = 10; // dalam detik
     private static final String SCREENSHOT_DIR = "test-output/screenshots";
+    // Path screenshot relatif terhadap file extent-report.html
+    private static final String SCREENSHOT_REPORT_DIR = "screenshots";
+    private static final String HAR_DIR = "test-output/har";
+    // Path file HAR relatif terhadap file extent-report.html
+    private static final String HAR_REPORT_DIR = "har";
+    // Direktori log test gagal relatif terhadap file report (lihat TestBuffer di log4j2.xml)
+    private static final String LOG_REPORT_DIR = "logs";
+    private static final String METRICS_DIR = "test-output/metrics";
+    private static final String REPORT_DIR = "test-output";
+    private static final String RESULTS_NAME = "results";
+    private static final String TRAFFIC_BASELINE_FILE = ".cache/request-filter-baseline.properties";
+    private static final String PROFILE_TEMPLATE_DIR = ".cache/firefox-profile";
+    private static final String FARM_LOG_DIR = "test-output/farm";
+    
+    // Screenshot disimpan di background agar teardown tidak menunggu disk I/O
+    private static ScreenshotWriter screenshotWriter;
+    
+    // URL website yang diuji, bisa berupa website asli atau fixture server lokal
+    private static String baseUrl;
+    private static FixtureServer fixtureServer;
+    
+    // Sesi Firefox dipakai ulang antar test melalui pool
+    private static DriverFactory driverFactory;
+    private static DriverPool driverPool;
+    private static BrowserProvisioner provisioner;
+    // Node remote (Selenium Grid atau farm lokal); null jika browser dijalankan langsung oleh JVM test
+    private static RemoteNodes remoteNodes;
+    private static LocalBrowserFarm browserFarm;
+    // Profile Firefox dengan cache terisi yang disalin untuk setiap sesi baru
+    private static ProfileTemplate profileTemplate;
+    
+    // Filter request pihak ketiga, aktif per suite melalui parameter request.filter
+    private static RequestFilter requestFilter;
+    
+    // Jumlah request paling lambat yang ditampilkan per test saat network.har aktif
+    private static int slowestRequests;
+    
+    // Hasil setiap test ditulis ke JSONL saat teardown; tanpa Extent HTML, node test dilepas dari memori
+    private static JsonlReporter jsonlReporter;
+    private static boolean extentHtml;
+    private static int reportPageSize;
+    private static final Map<String, String> systemInfo = Collections.synchronizedMap(new LinkedHashMap<>());
     
     /**
      * Metode ini dijalankan sebelum semua test suite dimulai
      * Mengatur konfigurasi ExtentReports untuk reporting hasil test
+     * @param context konteks TestNG untuk membaca parameter suite
      */
     @BeforeSuite
-    public void setupSuite() {
-        // Inisialisasi ExtentReports
-        ExtentSparkReporter htmlReporter = new ExtentSparkReporter("test-output/extent-report.html");
-        extent = new ExtentReports();
-        extent.attachReporter(htmlReporter);
+    public void setupSuite(ITestContext context) {
+        // Inisialisasi ExtentReports; report.mode menentukan apakah HTML Extent dan/atau JSONL ditulis
+        String reportMode = getSuiteParameter(context, "report.mode", "both").trim().toLowerCase();
+        extentHtml = !"jsonl".equals(reportMode);
+        extent = new SynchronizedExtentReports();
+        if (extentHtml) {
+            extent.attachReporter(new ExtentSparkReporter(REPORT_DIR + "/extent-report.html"));
+        }
+        if (!"extent".equals(reportMode)) {
+            try {
+                jsonlReporter = new JsonlReporter(Paths.get(REPORT_DIR, RESULTS_NAME + ".jsonl"));
+            } catch (IOException e) {
+                throw new IllegalStateException("Gagal membuat file hasil test", e);
+            }
+            reportPageSize = TestConfig.getInt("report.pageSize", 200);
+        }
         
         // Tambahkan informasi sistem
-        extent.setSystemInfo("OS", System.getProperty("os.name"));
-        extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-        extent.setSystemInfo("Browser", "Firefox");
+        addSystemInfo("OS", System.getProperty("os.name"));
+        addSystemInfo("Java Version", System.getProperty("java.version"));
+        addSystemInfo("Browser", "Firefox");
+        
+        // Resolusi geckodriver sekali di awal agar suite langsung gagal jika binary tidak tersedia;
+        // dengan Selenium Grid, geckodriver disediakan oleh node Grid
+        String remoteUrl = TestConfig.getString("driver.remote", null);
+        if (remoteUrl == null) {
+            GeckoDriverResolver.resolve();
+        }
+        
+        // Jalankan fixture server jika suite memakai rekaman response
+        String siteUrl = getSuiteParameter(context, "base.url", TestConfig.DEFAULT_BASE_URL);
+        FixtureServer.Mode fixtureMode = FixtureServer.parseMode(getSuiteParameter(context, "fixture.mode", "off"));
+        if (fixtureMode != FixtureServer.Mode.OFF) {
+            try {
+                fixtureServer = new FixtureServer(fixtureMode, siteUrl,
+                        new FixtureStore(Paths.get(getSuiteParameter(context, "fixture.dir", FIXTURE_DIR))),
+                        TestConfig.getInt("fixture.port", 0));
+            } catch (IOException e) {
+                throw new IllegalStateException("Gagal menjalankan fixture server", e);
+            }
+            baseUrl = fixtureServer.getBaseUrl();
+            addSystemInfo("Fixture", fixtureMode + " dari " + siteUrl);
+        } else {
+            baseUrl = siteUrl;
+        }
+        TestConfig.setBaseUrl(baseUrl);
+        
+        // Filter request dapat diaktifkan dari parameter suite atau system property
+        // Saat replay, semua host di luar fixture server diblokir agar suite tidak menyentuh jaringan
+        boolean replay = fixtureMode == FixtureServer.Mode.REPLAY;
+        requestFilter = new RequestFilter(
+                RequestFilter.parseMode(getSuiteParameter(context, "request.filter", replay ? "block" : "off")),
+                getSuiteParameter(context, "request.filter.deny", replay ? "*" : RequestFilter.DEFAULT_DENY_HOSTS),
+                getSuiteParameter(context, "request.filter.allow", ""),
+                getSuiteParameter(context, "request.filter.types", RequestFilter.DEFAULT_BLOCK_TYPES),
+                Paths.get(TRAFFIC_BASELINE_FILE));
+        if (requestFilter.isEnabled()) {
+            logger.info("Request filter aktif: {}", requestFilter);
+            addSystemInfo("Request Filter", requestFilter.toString());
+        }
+        
+        // Inisialisasi pool sesi Firefox
+        boolean networkCapture = Boolean.parseBoolean(getSuiteParameter(context, "network.har", "false"));
+        slowestRequests = TestConfig.getInt("network.har.top", 5);
+        driverFactory = new DriverFactory(requestFilter, networkCapture);
+        
+        // Browser dapat dijalankan di luar JVM test: di Selenium Grid atau di node farm lokal
+        int threads = TestConfig.getInt("threads", 1);
+        int farmNodes = TestConfig.getInt("farm.nodes", 0);
+        if (remoteUrl != null) {
+            remoteNodes = RemoteNodes.parse(remoteUrl);
+        } else if (farmNodes > 0) {
+            // Kapasitas default cukup untuk sesi yang dipakai test ditambah sesi yang disiapkan provisioner
+            browserFarm = new LocalBrowserFarm(farmNodes, TestConfig.getInt("farm.basePort", 0),
+                    TestConfig.getInt("farm.maxSessions", (2 * threads + farmNodes - 1) / farmNodes),
+                    Paths.get(FARM_LOG_DIR));
+            try {
+                browserFarm.start();
+            } catch (IOException e) {
+                browserFarm.close();
+                throw new IllegalStateException("Gagal menjalankan node browser lokal", e);
+            }
+            remoteNodes = new RemoteNodes(browserFarm.getNodeUrls());
+        }
+        if (remoteNodes != null) {
+            driverFactory.setRemoteNodes(remoteNodes);
+            logger.info("Sesi Firefox dibuat di node remote: {}", remoteNodes.getStatistics());
+        }
+        
+        // Path profile template hanya terlihat oleh browser di mesin yang sama, bukan oleh Grid di mesin lain
+        if (remoteUrl != null && TestConfig.getBoolean("profile.template", false)) {
+            logger.warn("profile.template diabaikan karena sesi dibuat di Selenium Grid {}", remoteUrl);
+        } else if (TestConfig.getBoolean("profile.template", false)) {
+            profileTemplate = new ProfileTemplate(Paths.get(TestConfig.getString("profile.dir", PROFILE_TEMPLATE_DIR)),
+                    baseUrl,
+                    Arrays.stream(TestConfig.getString("profile.warmup", "").split(","))
+                            .map(String::trim).filter(path -> !path.isEmpty()).collect(Collectors.toList()),
+                    Duration.ofHours(TestConfig.getInt("profile.maxAgeHours", 24)),
+                    TestConfig.getBoolean("profile.refresh", false));
+            try {
+                profileTemplate.prepare(driverFactory);
+            } catch (IOException e) {
+                throw new IllegalStateException("Gagal menyiapkan profile template Firefox", e);
+            }
+            driverFactory.setProfileTemplate(profileTemplate);
+        }
+        driverPool = new DriverPool(driverFactory, baseUrl,
+                TestConfig.getInt("pool.size", threads),
+                TestConfig.getInt("pool.maxReuse", 10));
+        if (TestConfig.getBoolean("pool.verifyReset", false)) {
+            driverPool.setResetVerifier(DriverPool.defaultResetVerifier());
+        }
+        // Sesi baru disiapkan di background agar startup browser berjalan bersamaan dengan test
+        int prespawn = TestConfig.getInt("pool.prespawn", 0);
+        int prespawnMax = TestConfig.getInt("pool.prespawn.max", Math.max(prespawn, threads));
+        if (prespawnMax > 0) {
+            provisioner = new BrowserProvisioner(driverFactory, baseUrl, prespawn, prespawnMax);
+            driverPool.setProvisioner(provisioner);
+        }
         
         // Buat direktori untuk screenshot jika belum ada
         createScreenshotDirectory();
+        screenshotWriter = new ScreenshotWriter(Paths.get(SCREENSHOT_DIR), TestConfig.getInt("screenshot.queueSize", 16));
         
         logger.info("Test suite setup selesai");
     }
     
     /**
      * Metode ini dijalankan sebelum setiap test method
-     * Mengatur WebDriver dan membuka browser Firefox
+     * Meminjam sesi Firefox dari pool yang sudah berada di URL dasar
      */
     @BeforeMethod
-    public void setupTest() {
+    public void setupTest(Method method) {
+        TestLogContext.start(method.getDeclaringClass().getSimpleName() + "." + method.getName());
         logger.info("Memulai setup WebDriver");
+        StepMetrics.startTest();
         
-        // Setup WebDriverManager untuk Firefox
-        WebDriverManager.firefoxdriver().setup();
-        
-        // Konfigurasi Firefox options
-        FirefoxOptions options = new FirefoxOptions();
-        // Uncomment baris berikut jika ingin menjalankan browser dalam mode headless
-        options.addArguments("--headless");
-        
-        // Inisialisasi WebDriver
-        driver = new FirefoxDriver(options);
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(TIMEOUT));
-        wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT));
+        WebDriver leasedDriver;
+        try {
+            leasedDriver = driverPool.lease();
+        } catch (RuntimeException e) {
+            // @AfterMethod tidak dijalankan jika setup gagal, jadi konteks test ditutup di sini
+            logger.error("Gagal meminjam sesi Firefox dari pool", e);
+            StepMetrics.finishTest();
+            TestLogContext.finish(true);
+            throw e;
+        }
+        driverContext.set(leasedDriver);
+        if (leasedDriver instanceof RemoteWebDriver) {
+            TestLogContext.setSession(String.valueOf(((RemoteWebDriver) leasedDriver).getSessionId()));
+        }
+        waitContext.set(new WebDriverWait(leasedDriver, Duration.ofSeconds(TIMEOUT)));
         
-        // Buka URL dasar
-        driver.get(BASE_URL);
-        logger.info("Browser Firefox dibuka dengan URL: " + BASE_URL);
+        // Hitung trafik mulai dari test ini saja
+        FilteringProxy proxy = driverFactory.getProxy(leasedDriver);
+        if (proxy != null) {
+            proxy.resetCounters();
+        }
+        NetworkRecorder recorder = driverFactory.getNetworkRecorder(leasedDriver);
+        if (recorder != null) {
+            recorder.reset();
+        }
+        logger.info("Browser Firefox siap dengan URL: {}", baseUrl);
     }
     
     /**
@@ -97,8 +284,49 @@ public class BaseTest {
      */
     @AfterMethod
     public void tearDown(ITestResult result) {
+        ExtentTest test = getTest();
+        WebDriver currentDriver = driverContext.get();
+        try {
+            try {
+                reportTest(result, test, currentDriver);
+            } finally {
+                // Kembalikan browser ke pool untuk dipakai test berikutnya, meskipun pelaporan gagal
+                if (currentDriver != null) {
+                    driverPool.release(currentDriver);
+                }
+            }
+            
+            // Log detail test hanya disimpan jika test gagal
+            Path logFile = TestLogContext.finish(result.getStatus() == ITestResult.FAILURE);
+            if (logFile != null && test != null) {
+                test.info("Log test: <a href='" + LOG_REPORT_DIR + "/" + logFile.getFileName()
+                        + "'>" + logFile.getFileName() + "</a>");
+            }
+            
+            // Hasil test langsung ditulis ke JSONL agar tidak hilang jika suite berhenti di tengah jalan
+            if (jsonlReporter != null) {
+                jsonlReporter.writeTest(result, test);
+                if (!extentHtml && test != null) {
+                    extent.removeTest(test);
+                }
+            }
+        } finally {
+            // Jika pelaporan gagal, log test disimpan dan ditutup di sini; tanpa efek jika sudah ditutup di atas
+            TestLogContext.finish(true);
+            // Thread TestNG dipakai ulang untuk test berikutnya
+            driverContext.remove();
+            waitContext.remove();
+            testContext.remove();
+        }
+    }
+    
+    /**
+     * Metode untuk melaporkan hasil test sebelum sesi dikembalikan ke pool:
+     * screenshot jika gagal, durasi aksi page object, dan trafik jaringan
+     */
+    private void reportTest(ITestResult result, ExtentTest test, WebDriver currentDriver) {
         if (result.getStatus() == ITestResult.FAILURE) {
-            logger.error("Test gagal: " + result.getName());
+            logger.error("Test gagal: {}", result.getName());
             
             // Ambil screenshot jika test gagal
             String screenshotPath = captureScreenshot(result.getName());
@@ -112,54 +340,215 @@ public class BaseTest {
                 }
             }
         } else if (result.getStatus() == ITestResult.SUCCESS) {
-            logger.info("Test berhasil: " + result.getName());
+            logger.info("Test berhasil: {}", result.getName());
+        }
+        
+        // Ringkasan durasi setiap aksi page object selama test
+        Map<StepMetrics.Step, LatencyHistogram> steps = StepMetrics.finishTest();
+        if (test != null && !steps.isEmpty()) {
+            test.info(MarkupHelper.createTable(StepMetrics.toTable(steps)));
+        }
+        
+        // Laporkan trafik yang diblokir sebelum sesi di-reset oleh pool
+        FilteringProxy proxy = currentDriver != null ? driverFactory.getProxy(currentDriver) : null;
+        if (proxy != null) {
+            logger.info("Trafik {}: {}", result.getName(), proxy.getSummary());
+            if (test != null) {
+                test.info("Request filter: " + proxy.getSummary());
+            }
         }
         
-        // Tutup browser
-        if (driver != null) {
-            driver.quit();
-            logger.info("Browser ditutup");
+        NetworkRecorder recorder = currentDriver != null ? driverFactory.getNetworkRecorder(currentDriver) : null;
+        if (recorder != null) {
+            reportNetwork(result, test, recorder);
         }
     }
     
     /**
      * Metode ini dijalankan setelah semua test suite selesai
-     * Menutup ExtentReports
+     * Menutup semua sesi di pool dan menyimpan ExtentReports
      */
     @AfterSuite
     public void tearDownSuite() {
+        if (driverPool != null) {
+            driverPool.shutdown();
+        }
+        if (browserFarm != null) {
+            browserFarm.close();
+        }
+        if (requestFilter != null) {
+            requestFilter.saveBaseline();
+        }
+        if (fixtureServer != null) {
+            fixtureServer.close();
+        }
+        // Simpan urutan cabang locator yang dipelajari untuk run berikutnya
+        LocatorStats.save();
+        WaitMetrics.save();
+        try {
+            StepMetrics.exportJson(Paths.get(METRICS_DIR, "steps.json"));
+            StepMetrics.exportPrometheus(Paths.get(METRICS_DIR, "steps.prom"));
+            WaitMetrics.exportJson(Paths.get(METRICS_DIR, "waits.json"));
+        } catch (IOException e) {
+            logger.error("Gagal menyimpan metrik langkah", e);
+        }
+        // Pastikan semua screenshot sudah tersimpan sebelum report ditulis
+        if (screenshotWriter != null) {
+            screenshotWriter.close(TIMEOUT);
+        }
         if (extent != null) {
-            extent.flush();
-            logger.info("Extent report disimpan");
+            if (driverPool != null) {
+                addSystemInfo("Driver Pool", driverPool.getStatistics());
+            }
+            if (remoteNodes != null) {
+                addSystemInfo("Remote Nodes", remoteNodes.getStatistics());
+            }
+            if (provisioner != null) {
+                addSystemInfo("Browser Provisioner", provisioner.getStatistics());
+            }
+            if (profileTemplate != null) {
+                addSystemInfo("Firefox Profile", profileTemplate.getStatistics());
+            }
+            addSystemInfo("Adaptive Wait", WaitMetrics.getStatistics());
+            addSystemInfo("Element Cache", ElementCache.getStatistics());
+            String schedule = ScheduleInterceptor.getStatistics();
+            if (schedule != null) {
+                addSystemInfo("Schedule", schedule);
+            }
+            if (screenshotWriter != null) {
+                addSystemInfo("Screenshot", screenshotWriter.getStatistics());
+            }
+            if (fixtureServer != null) {
+                addSystemInfo("Fixture Server", fixtureServer.getStatistics());
+            }
+            if (extentHtml) {
+                extent.flush();
+                logger.info("Extent report disimpan");
+            }
+        }
+        if (jsonlReporter != null) {
+            jsonlReporter.writeSystemInfo(systemInfo);
+            jsonlReporter.close();
+            try {
+                new JsonlReportRenderer(Paths.get(REPORT_DIR), RESULTS_NAME, reportPageSize)
+                        .render(jsonlReporter.getFile());
+            } catch (IOException e) {
+                logger.error("Gagal merender report dari {}", jsonlReporter.getFile(), e);
+            }
         }
     }
     
+    /**
+     * Metode untuk mendapatkan WebDriver milik thread yang sedang berjalan
+     * @return instance WebDriver
+     */
+    protected WebDriver getDriver() {
+        return driverContext.get();
+    }
+    
+    /**
+     * Metode untuk mendapatkan WebDriverWait milik thread yang sedang berjalan
+     * @return instance WebDriverWait
+     */
+    protected WebDriverWait getWait() {
+        return waitContext.get();
+    }
+    
+    /**
+     * Metode untuk mendapatkan node report milik thread yang sedang berjalan
+     * @return instance ExtentTest, atau null jika belum dibuat
+     */
+    protected ExtentTest getTest() {
+        return testContext.get();
+    }
+    
+    /**
+     * Metode untuk membuat node report untuk test yang sedang berjalan
+     * @param name nama test
+     * @param description deskripsi test
+     * @return instance ExtentTest
+     */
+    protected ExtentTest createTest(String name, String description) {
+        ExtentTest extentTest = extent.createTest(name, description);
+        testContext.set(extentTest);
+        return extentTest;
+    }
+    
     /**
      * Metode untuk mengambil screenshot
-     * @param testName nama test untuk penamaan file screenshot
-     * @return path ke file screenshot
+     * Screenshot diambil sebagai byte lalu diserahkan ke ScreenshotWriter, file diberi nama
+     * sesuai hash isinya sehingga screenshot yang identik tidak disimpan berulang
+     * @param testName nama test untuk logging
+     * @return path ke file screenshot relatif terhadap Extent report
      */
     private String captureScreenshot(String testName) {
         try {
-            // Format nama file dengan timestamp
-            LocalDateTime now = LocalDateTime.now();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
-            String timestamp = now.format(formatter);
-            
-            String fileName = SCREENSHOT_DIR + "/" + testName + "_" + timestamp + ".png";
+            byte[] screenshot = ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.BYTES);
+            String fileName = screenshotWriter.submit(screenshot);
             
-            // Ambil screenshot
-            File screenshotFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            Files.copy(screenshotFile.toPath(), Paths.get(fileName));
-            
-            logger.info("Screenshot disimpan: " + fileName);
-            return fileName;
+            logger.info("Screenshot untuk {} dijadwalkan: {}", testName, fileName);
+            return SCREENSHOT_REPORT_DIR + "/" + fileName;
         } catch (Exception e) {
             logger.error("Gagal mengambil screenshot", e);
             return null;
         }
     }
     
+    /**
+     * Metode untuk menyimpan HAR milik test dan menampilkan request paling lambat
+     * @param result hasil test
+     * @param test node report milik test, boleh null
+     * @param recorder perekam network milik sesi test
+     */
+    private void reportNetwork(ITestResult result, ExtentTest test, NetworkRecorder recorder) {
+        List<NetworkEntry> entries = recorder.getEntries();
+        String fileName = result.getName() + "-" + result.getStartMillis() + ".har";
+        try {
+            HarWriter.write(Paths.get(HAR_DIR, fileName), result.getName(), entries);
+            if (test != null) {
+                test.info("HAR (" + entries.size() + " request): <a href='" + HAR_REPORT_DIR + "/" + fileName
+                        + "' target='_blank'>" + fileName + "</a>");
+            }
+        } catch (IOException e) {
+            logger.error("Gagal menyimpan HAR {}", fileName, e);
+        }
+        
+        StringBuilder summary = new StringBuilder();
+        for (NetworkEntry entry : recorder.getSlowest(slowestRequests)) {
+            summary.append(entry).append("\n");
+        }
+        if (summary.length() > 0) {
+            logger.info("{} request paling lambat di {}:\n{}", slowestRequests, result.getName(), summary);
+            if (test != null) {
+                test.info("<pre>" + summary.toString().replace("<", "&lt;") + "</pre>");
+            }
+        }
+    }
+    
+    /**
+     * Metode untuk menambahkan informasi sistem ke Extent Report dan report JSONL
+     */
+    private static void addSystemInfo(String key, String value) {
+        extent.setSystemInfo(key, value);
+        systemInfo.put(key, value);
+    }
+    
+    /**
+     * Metode untuk membaca parameter suite, dengan system property sebagai cadangan
+     * @param context konteks TestNG
+     * @param key nama parameter
+     * @param defaultValue nilai default jika parameter tidak diatur
+     * @return nilai parameter
+     */
+    private static String getSuiteParameter(ITestContext context, String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value != null) {
+            return value;
+        }
+        value = context.getSuite().getParameter(key);
+        return value != null ? value : defaultValue;
+    }
+    
     /**
      * Metode untuk membuat direktori screenshot
      */
@@ -168,7 +557,7 @@ public class BaseTest {
         if (!Files.exists(path)) {
             try {
                 Files.createDirectories(path);
-                logger.info("Direktori screenshot dibuat: " + SCREENSHOT_DIR);
+                logger.info("Direktori screenshot dibuat: {}", SCREENSHOT_DIR);
             } catch (IOException e) {
                 logger.error("Gagal membuat direktori screenshot", e);
             }
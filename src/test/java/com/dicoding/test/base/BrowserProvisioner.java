@@ -0,0 +1,274 @@
+package com.dicoding.test.base;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BrowserProvisioner menyiapkan sesi Firefox di background sebelum dibutuhkan test
+ * Sejumlah sesi selalu sudah diluncurkan dan dibuka di base URL, sehingga test yang butuh sesi baru
+ * cukup mengambil dari antrean. Kedalaman antrean menyesuaikan diri dengan perbandingan waktu startup browser
+ * terhadap jarak antar permintaan sesi baru (yang ditentukan durasi test, jumlah thread, dan batas pemakaian ulang).
+ * Jika sesi dari pool sudah mencukupi dan permintaan sesi baru jarang, kedalaman turun sampai 0 agar tidak ada
+ * browser yang menganggur sepanjang suite
+ */
+public class BrowserProvisioner {
+    private static final Logger logger = LogManager.getLogger(BrowserProvisioner.class);
+
+    // Bobot sampel terbaru pada rata-rata bergerak waktu startup dan jarak permintaan
+    private static final double SMOOTHING = 0.3;
+    // Batas kegagalan berturut-turut di background sebelum penyiapan ulang menunggu permintaan berikutnya
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+
+    private final DriverFactory factory;
+    private final String baseUrl;
+    private final int minDepth;
+    private final int maxDepth;
+    private final ExecutorService executor;
+
+    private final BlockingQueue<Provisioned> ready = new LinkedBlockingQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int depth;
+    private volatile boolean closed;
+
+    // Rata-rata bergerak dalam milidetik; diisi oleh sampel pertama
+    private double startupMillis = -1;
+    private double demandIntervalMillis = -1;
+    private long lastDemandNanos;
+
+    private final AtomicInteger readyHits = new AtomicInteger();
+    private final AtomicInteger waits = new AtomicInteger();
+    private final AtomicLong totalStartupNanos = new AtomicLong();
+    private final AtomicLong hiddenStartupNanos = new AtomicLong();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /**
+     * Sesi yang sudah siap
+     */
+    private static class Provisioned {
+        private final WebDriver driver;
+        private final long startupNanos;
+        private final long readyAtNanos;
+
+        private Provisioned(WebDriver driver, long startupNanos) {
+            this.driver = driver;
+            this.startupNanos = startupNanos;
+            this.readyAtNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Konstruktor untuk BrowserProvisioner, penyiapan sesi langsung dimulai
+     * @param factory factory untuk membuat sesi baru
+     * @param baseUrl URL yang dibuka setiap sesi sebelum diserahkan
+     * @param minDepth jumlah minimum sesi yang disiapkan, boleh 0
+     * @param maxDepth jumlah maksimum sesi yang disiapkan, juga kedalaman awal untuk menutup ramp-up suite
+     */
+    public BrowserProvisioner(DriverFactory factory, String baseUrl, int minDepth, int maxDepth) {
+        this.factory = factory;
+        this.baseUrl = baseUrl;
+        this.minDepth = Math.max(0, minDepth);
+        this.maxDepth = Math.max(1, Math.max(this.minDepth, maxDepth));
+        this.depth = this.maxDepth;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.maxDepth, runnable -> {
+            Thread thread = new Thread(runnable, "browser-provisioner-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        refill(depth);
+    }
+
+    /**
+     * Metode untuk mengambil sesi yang sudah siap
+     * Jika antrean kosong, metode ini menunggu sesi yang sedang disiapkan. Jika tidak ada yang sedang disiapkan
+     * (misalnya karena penyiapan di background gagal), sesi dibuat langsung untuk pemanggil ini, dan hanya
+     * kegagalan pembuatan tersebut yang diteruskan ke pemanggil
+     * @return WebDriver yang sudah berada di base URL
+     */
+    public WebDriver take() {
+        long requestedAt = System.nanoTime();
+        // Pengganti sesi baru disiapkan setelah jarak antar permintaan diketahui, bukan setelah permintaan pertama
+        boolean demandKnown = adapt(requestedAt);
+        Provisioned provisioned = ready.poll();
+        boolean waited = provisioned == null;
+        try {
+            while (provisioned == null) {
+                if (inFlight.get() == 0 && ready.isEmpty()) {
+                    provisioned = createForCaller();
+                    break;
+                }
+                provisioned = ready.poll(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Terinterupsi saat menunggu browser disiapkan", e);
+        } finally {
+            if (demandKnown) {
+                refill(depth);
+            }
+        }
+
+        // Bagian startup yang berjalan sebelum sesi diminta tidak lagi membebani test
+        long waitedNanos = waited ? Math.max(0, provisioned.readyAtNanos - requestedAt) : 0;
+        if (waited) {
+            waits.incrementAndGet();
+        } else {
+            readyHits.incrementAndGet();
+        }
+        totalStartupNanos.addAndGet(provisioned.startupNanos);
+        hiddenStartupNanos.addAndGet(Math.max(0, provisioned.startupNanos - waitedNanos));
+        logger.debug("Sesi siap diambil, menunggu {} ms, kedalaman {}", waitedNanos / 1_000_000, depth);
+        return provisioned.driver;
+    }
+
+    /**
+     * Metode untuk menghentikan penyiapan dan menutup semua sesi yang belum diambil
+     */
+    public void shutdown() {
+        closed = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                logger.warn("Sebagian browser masih disiapkan saat provisioner ditutup");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Provisioned provisioned;
+        while ((provisioned = ready.poll()) != null) {
+            quit(provisioned.driver);
+        }
+        logger.info("Browser provisioner ditutup. {}", getStatistics());
+    }
+
+    /**
+     * Metode untuk mendapatkan ringkasan statistik provisioner
+     * @return jumlah sesi yang langsung siap dan yang harus ditunggu, serta porsi waktu startup yang tersembunyi
+     */
+    public String getStatistics() {
+        long total = totalStartupNanos.get();
+        long hidden = hiddenStartupNanos.get();
+        return "siap=" + readyHits.get() + ", menunggu=" + waits.get()
+                + String.format(", startup tersembunyi=%.1f dari %.1f detik (%.0f%%)",
+                        hidden / 1e9, total / 1e9, total == 0 ? 0.0 : 100.0 * hidden / total)
+                + ", gagal di background=" + failures.get() + ", kedalaman=" + depth;
+    }
+
+    /**
+     * @return total waktu startup browser yang berjalan paralel dengan test, dalam milidetik
+     */
+    public long getHiddenStartupMillis() {
+        return hiddenStartupNanos.get() / 1_000_000;
+    }
+
+    /**
+     * @return total waktu startup semua sesi yang diambil, dalam milidetik
+     */
+    public long getTotalStartupMillis() {
+        return totalStartupNanos.get() / 1_000_000;
+    }
+
+    /**
+     * Menyesuaikan kedalaman: sesi yang disiapkan cukup untuk permintaan yang datang selama satu kali startup.
+     * Jika jarak permintaan lebih dari dua kali waktu startup, kedalaman menjadi 0
+     * @return true jika jarak antar permintaan sudah diketahui
+     */
+    private synchronized boolean adapt(long now) {
+        if (lastDemandNanos != 0) {
+            double interval = (now - lastDemandNanos) / 1e6;
+            demandIntervalMillis = demandIntervalMillis < 0
+                    ? interval
+                    : SMOOTHING * interval + (1 - SMOOTHING) * demandIntervalMillis;
+        }
+        lastDemandNanos = now;
+        if (startupMillis > 0 && demandIntervalMillis > 0) {
+            int target = (int) Math.round(startupMillis / demandIntervalMillis);
+            int adapted = Math.min(maxDepth, Math.max(minDepth, target));
+            if (adapted != depth) {
+                logger.debug("Kedalaman provisioner {} -> {} (startup {} ms, jarak permintaan {} ms)",
+                        depth, adapted, Math.round(startupMillis), Math.round(demandIntervalMillis));
+                depth = adapted;
+            }
+        }
+        return demandIntervalMillis >= 0;
+    }
+
+    private synchronized void recordStartup(long nanos) {
+        double millis = nanos / 1e6;
+        startupMillis = startupMillis < 0 ? millis : SMOOTHING * millis + (1 - SMOOTHING) * startupMillis;
+    }
+
+    private synchronized void refill(int target) {
+        while (!closed && ready.size() + inFlight.get() < target) {
+            inFlight.incrementAndGet();
+            executor.execute(this::spawn);
+        }
+    }
+
+    /**
+     * Membuat sesi langsung di thread pemanggil; exception diteruskan ke pemanggil
+     */
+    private Provisioned createForCaller() {
+        Provisioned provisioned = create();
+        consecutiveFailures.set(0);
+        return provisioned;
+    }
+
+    private Provisioned create() {
+        long start = System.nanoTime();
+        WebDriver driver = factory.createDriver();
+        try {
+            factory.openInitialPage(driver, baseUrl);
+        } catch (RuntimeException e) {
+            quit(driver);
+            throw e;
+        }
+        long startup = System.nanoTime() - start;
+        recordStartup(startup);
+        return new Provisioned(driver, startup);
+    }
+
+    /**
+     * Menyiapkan satu sesi di background. Kegagalan hanya dicatat lalu dicoba ulang, karena tidak ada test
+     * yang menunggu sesi ini secara khusus
+     */
+    private void spawn() {
+        boolean failed = false;
+        try {
+            Provisioned provisioned = create();
+            consecutiveFailures.set(0);
+            if (closed) {
+                quit(provisioned.driver);
+            } else {
+                ready.offer(provisioned);
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            failures.incrementAndGet();
+            logger.warn("Gagal menyiapkan browser di background, akan dicoba ulang", e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (failed && consecutiveFailures.incrementAndGet() < MAX_CONSECUTIVE_FAILURES) {
+            refill(depth);
+        }
+    }
+
+    private void quit(WebDriver driver) {
+        try {
+            factory.quitDriver(driver);
+        } catch (RuntimeException e) {
+            logger.error("Gagal menutup browser", e);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.dicoding.test.base;
+
+import com.dicoding.test.network.FilteringProxy;
+import com.dicoding.test.network.NetworkRecorder;
+import com.dicoding.test.network.RequestFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DriverFactory bertugas membuat instance WebDriver Firefox baru
+ * Konfigurasi browser dikumpulkan di sini agar dapat dipakai ulang oleh DriverPool.
+ * Sesi dibuat sebagai FirefoxDriver lokal, atau sebagai RemoteWebDriver jika node remote diatur
+ */
+public class DriverFactory {
+    private static final Logger logger = LogManager.getLogger(DriverFactory.class);
+
+    private static final int SCRIPT_TIMEOUT = 30; // dalam detik
+
+    private final RequestFilter requestFilter;
+    private final boolean networkCapture;
+    // Proxy filter milik setiap sesi, ditutup bersama browser-nya
+    private final Map<WebDriver, FilteringProxy> proxies = new ConcurrentHashMap<>();
+    // Perekam network BiDi milik setiap sesi, hanya terisi jika networkCapture aktif
+    private final Map<WebDriver, NetworkRecorder> recorders = new ConcurrentHashMap<>();
+    // Salinan profile template milik setiap sesi, dihapus setelah browser ditutup
+    private final Map<WebDriver, Path> profiles = new ConcurrentHashMap<>();
+    private ProfileTemplate profileTemplate;
+    // Node remote tempat setiap sesi dibuat, dilepas saat browser ditutup
+    private final Map<WebDriver, RemoteNodes.Node> nodes = new ConcurrentHashMap<>();
+    private RemoteNodes remoteNodes;
+
+    /**
+     * Konstruktor untuk DriverFactory
+     * @param requestFilter filter request untuk setiap sesi, atau null jika tidak dipakai
+     * @param networkCapture true untuk merekam timing network melalui WebDriver BiDi
+     */
+    public DriverFactory(RequestFilter requestFilter, boolean networkCapture) {
+        this.requestFilter = requestFilter;
+        this.networkCapture = networkCapture;
+    }
+
+    /**
+     * Metode untuk mengatur profile template yang disalin untuk setiap sesi baru
+     * @param profileTemplate profile template yang sudah disiapkan, atau null untuk profile sementara bawaan geckodriver
+     */
+    public void setProfileTemplate(ProfileTemplate profileTemplate) {
+        this.profileTemplate = profileTemplate;
+    }
+
+    /**
+     * Metode untuk mengatur node remote tempat sesi baru dibuat
+     * @param remoteNodes Selenium Grid atau node farm lokal, atau null untuk FirefoxDriver lokal
+     */
+    public void setRemoteNodes(RemoteNodes remoteNodes) {
+        this.remoteNodes = remoteNodes;
+    }
+
+    /**
+     * Metode untuk membuat WebDriver Firefox baru
+     * @return instance WebDriver yang sudah dikonfigurasi
+     */
+    public WebDriver createDriver() {
+        if (profileTemplate == null) {
+            return createDriver(null);
+        }
+        Path clone;
+        try {
+            clone = profileTemplate.cloneProfile();
+        } catch (IOException e) {
+            throw new IllegalStateException("Gagal menyalin profile template", e);
+        }
+        WebDriver driver;
+        try {
+            driver = createDriver(clone);
+        } catch (RuntimeException e) {
+            ProfileTemplate.deleteClone(clone);
+            throw e;
+        }
+        profiles.put(driver, clone);
+        return driver;
+    }
+
+    /**
+     * Metode untuk membuat WebDriver Firefox baru dengan direktori profile tertentu
+     * @param profile direktori profile yang dipakai langsung oleh Firefox, atau null untuk profile sementara
+     * @return instance WebDriver yang sudah dikonfigurasi
+     */
+    WebDriver createDriver(Path profile) {
+        // Path geckodriver hanya di-resolve sekali per JVM, sesi remote memakai geckodriver milik node
+        RemoteNodes.Node node = null;
+        if (remoteNodes == null) {
+            logger.info("Membuat sesi Firefox baru");
+            GeckoDriverResolver.resolve();
+        }
+
+        // Konfigurasi Firefox options
+        FirefoxOptions options = new FirefoxOptions();
+        // Hapus baris berikut jika ingin menjalankan browser dengan tampilan
+        options.addArguments("--headless");
+        if (profile != null) {
+            options.addArguments("-profile", profile.toString());
+        }
+
+        // BiDi hanya diaktifkan jika perekaman network diminta, agar sesi biasa tidak membuka WebSocket
+        if (networkCapture) {
+            options.setCapability("webSocketUrl", true);
+        }
+
+        // Pasang proxy filter request jika diaktifkan
+        FilteringProxy proxy = null;
+        if (requestFilter != null) {
+            try {
+                proxy = requestFilter.apply(options);
+            } catch (IOException e) {
+                throw new IllegalStateException("Gagal menjalankan proxy filter request", e);
+            }
+        }
+
+        // Inisialisasi WebDriver; sesi remote dibuat di node dengan beban paling kecil
+        WebDriver driver;
+        try {
+            if (remoteNodes == null) {
+                driver = new FirefoxDriver(options);
+            } else {
+                node = remoteNodes.acquire();
+                logger.info("Membuat sesi Firefox baru di {}", node);
+                driver = new RemoteWebDriver(node.getUrl(), options);
+                // Augmenter menambahkan HasBiDi pada RemoteWebDriver
+                if (networkCapture) {
+                    driver = new Augmenter().augment(driver);
+                }
+            }
+        } catch (RuntimeException e) {
+            if (node != null) {
+                remoteNodes.release(node);
+            }
+            if (proxy != null) {
+                proxy.close();
+            }
+            throw e;
+        }
+        if (node != null) {
+            nodes.put(driver, node);
+        }
+        if (proxy != null) {
+            proxies.put(driver, proxy);
+        }
+        if (networkCapture) {
+            try {
+                recorders.put(driver, new NetworkRecorder(((HasBiDi) driver).getBiDi()));
+            } catch (RuntimeException e) {
+                logger.warn("WebDriver BiDi tidak tersedia, timing network tidak direkam", e);
+            }
+        }
+        driver.manage().window().maximize();
+        // Implicit wait sengaja 0: menunggu elemen dilakukan dengan explicit wait di BasePage,
+        // sehingga pemeriksaan elemen yang tidak ada tidak tertahan sampai timeout
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        // Script timeout lebih besar dari timeout wait agar DomWaits selesai lebih dulu
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(SCRIPT_TIMEOUT));
+        return driver;
+    }
+
+    /**
+     * Metode untuk membuka halaman pertama sesi baru
+     * Untuk sesi dari profile template, timing muat halaman dicatat sebagai muat dengan cache terisi
+     * @param driver sesi browser yang baru dibuat
+     * @param url URL yang dibuka
+     */
+    public void openInitialPage(WebDriver driver, String url) {
+        if (profileTemplate != null && profiles.containsKey(driver)) {
+            profileTemplate.recordWarmLoad(PageLoadTiming.open(driver, url));
+        } else {
+            driver.get(url);
+        }
+    }
+
+    /**
+     * Metode untuk mendapatkan proxy filter milik sesi
+     * @param driver sesi browser
+     * @return proxy filter, atau null jika filter tidak aktif
+     */
+    public FilteringProxy getProxy(WebDriver driver) {
+        return proxies.get(driver);
+    }
+
+    /**
+     * Metode untuk mendapatkan perekam network milik sesi
+     * @param driver sesi browser
+     * @return perekam network, atau null jika perekaman tidak aktif
+     */
+    public NetworkRecorder getNetworkRecorder(WebDriver driver) {
+        return recorders.get(driver);
+    }
+
+    /**
+     * Metode untuk menutup browser beserta resource yang dibuat untuknya
+     * @param driver sesi browser yang akan ditutup
+     */
+    public void quitDriver(WebDriver driver) {
+        try {
+            driver.quit();
+        } finally {
+            recorders.remove(driver);
+            RemoteNodes.Node node = nodes.remove(driver);
+            if (node != null) {
+                remoteNodes.release(node);
+            }
+            Path profile = profiles.remove(driver);
+            if (profile != null) {
+                ProfileTemplate.deleteClone(profile);
+            }
+            FilteringProxy proxy = proxies.remove(driver);
+            if (proxy != null) {
+                proxy.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.dicoding.test.base;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DriverPool menyimpan sesi Firefox yang masih hangat agar dapat dipakai ulang antar test
+ * Saat dikembalikan, sesi di-reset (cookies, storage, jendela tambahan, URL) alih-alih ditutup
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {}"
+            + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private final DriverFactory factory;
+    private final String baseUrl;
+    private final int poolSize;
+    private final int maxReuse;
+    private ResetVerifier resetVerifier;
+    private BrowserProvisioner provisioner;
+
+    private final BlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> sessions = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger retired = new AtomicInteger();
+    private final AtomicInteger resetFailures = new AtomicInteger();
+
+    /**
+     * Hook untuk memverifikasi bahwa sesi sudah bersih setelah di-reset
+     */
+    public interface ResetVerifier {
+        /**
+         * @param driver sesi yang baru saja di-reset
+         * @return true jika sesi layak dipakai ulang, false jika harus ditutup
+         */
+        boolean verify(WebDriver driver);
+    }
+
+    /**
+     * Data tambahan untuk setiap sesi di dalam pool
+     */
+    private static class PooledSession {
+        private final String mainWindowHandle;
+        private int uses;
+
+        private PooledSession(String mainWindowHandle) {
+            this.mainWindowHandle = mainWindowHandle;
+        }
+    }
+
+    /**
+     * Konstruktor untuk DriverPool
+     * @param factory factory untuk membuat sesi baru
+     * @param baseUrl URL tujuan setiap sesi setelah di-reset
+     * @param poolSize jumlah maksimum sesi idle yang disimpan
+     * @param maxReuse jumlah maksimum pemakaian satu sesi sebelum ditutup
+     */
+    public DriverPool(DriverFactory factory, String baseUrl, int poolSize, int maxReuse) {
+        this.factory = factory;
+        this.baseUrl = baseUrl;
+        this.poolSize = Math.max(1, poolSize);
+        this.maxReuse = Math.max(1, maxReuse);
+    }
+
+    /**
+     * Metode untuk mengatur hook verifikasi reset
+     * @param resetVerifier hook verifikasi, atau null untuk menonaktifkan
+     */
+    public void setResetVerifier(ResetVerifier resetVerifier) {
+        this.resetVerifier = resetVerifier;
+    }
+
+    /**
+     * Metode untuk mengatur provisioner yang menyiapkan sesi baru di background
+     * @param provisioner provisioner sesi, atau null agar sesi baru dibuat saat dibutuhkan
+     */
+    public void setProvisioner(BrowserProvisioner provisioner) {
+        this.provisioner = provisioner;
+    }
+
+    /**
+     * Verifikasi bawaan: hanya satu jendela, tanpa cookies dan storage kosong
+     * @return hook verifikasi bawaan
+     */
+    public static ResetVerifier defaultResetVerifier() {
+        return driver -> {
+            Object storageSize = ((JavascriptExecutor) driver).executeScript(
+                    "try { return window.localStorage.length + window.sessionStorage.length; } catch (e) { return 0; }");
+            return driver.getWindowHandles().size() == 1
+                    && driver.manage().getCookies().isEmpty()
+                    && ((Number) storageSize).intValue() == 0;
+        };
+    }
+
+    /**
+     * Metode untuk meminjam sesi dari pool
+     * Jika tidak ada sesi idle, sesi diambil dari provisioner atau dibuat dan langsung diarahkan ke base URL
+     * @return WebDriver yang siap dipakai
+     */
+    public WebDriver lease() {
+        WebDriver driver = idleDrivers.pollFirst();
+        if (driver != null) {
+            hits.incrementAndGet();
+            logger.info("Memakai ulang sesi Firefox dari pool");
+        } else {
+            misses.incrementAndGet();
+            if (provisioner != null) {
+                driver = provisioner.take();
+                sessions.put(driver, new PooledSession(driver.getWindowHandle()));
+                logger.info("Sesi Firefox baru diambil dari provisioner");
+            } else {
+                driver = factory.createDriver();
+                sessions.put(driver, new PooledSession(driver.getWindowHandle()));
+                factory.openInitialPage(driver, baseUrl);
+                logger.info("Sesi Firefox baru dibuat untuk pool");
+            }
+        }
+        sessions.get(driver).uses++;
+        return driver;
+    }
+
+    /**
+     * Metode untuk mengembalikan sesi ke pool
+     * Sesi di-reset lalu disimpan, atau ditutup jika batas pemakaian/ukuran pool tercapai
+     * @param driver sesi yang dikembalikan
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        PooledSession session = sessions.get(driver);
+        if (session == null) {
+            logger.warn("Sesi yang dikembalikan bukan milik pool, browser ditutup");
+            driver.quit();
+            return;
+        }
+        if (session.uses >= maxReuse) {
+            logger.info("Sesi sudah dipakai {} kali, browser ditutup", session.uses);
+            retire(driver);
+            return;
+        }
+        if (!reset(driver, session)) {
+            resetFailures.incrementAndGet();
+            retire(driver);
+            return;
+        }
+        if (!idleDrivers.offerFirst(driver) || idleDrivers.size() > poolSize) {
+            idleDrivers.remove(driver);
+            retire(driver);
+            return;
+        }
+        logger.info("Sesi di-reset dan dikembalikan ke pool");
+    }
+
+    /**
+     * Metode untuk menutup semua sesi idle di pool beserta sesi yang disiapkan provisioner
+     */
+    public void shutdown() {
+        if (provisioner != null) {
+            provisioner.shutdown();
+        }
+        WebDriver driver;
+        while ((driver = idleDrivers.pollFirst()) != null) {
+            retire(driver);
+        }
+        logger.info("Driver pool ditutup. {}", getStatistics());
+    }
+
+    /**
+     * Metode untuk mendapatkan ringkasan statistik pool
+     * @return ringkasan jumlah hit, miss, sesi yang ditutup, dan reset yang gagal
+     */
+    public String getStatistics() {
+        return "hit=" + hits.get() + ", miss=" + misses.get()
+                + ", ditutup=" + retired.get() + ", reset gagal=" + resetFailures.get();
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Metode untuk me-reset sesi ke kondisi awal
+     * @param driver sesi yang akan di-reset
+     * @param session data sesi di pool
+     * @return true jika reset berhasil
+     */
+    private boolean reset(WebDriver driver, PooledSession session) {
+        try {
+            // Tutup semua jendela/tab selain jendela utama
+            Set<String> handles = driver.getWindowHandles();
+            for (String handle : handles) {
+                if (!handle.equals(session.mainWindowHandle)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(session.mainWindowHandle);
+
+            // Cookies dan storage hanya bisa dihapus untuk origin yang sedang dibuka
+            if (!driver.getCurrentUrl().startsWith(baseUrl)) {
+                driver.get(baseUrl);
+            }
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+
+            if (resetVerifier != null && !resetVerifier.verify(driver)) {
+                logger.warn("Verifikasi reset sesi gagal, browser ditutup");
+                return false;
+            }
+
+            // Muat ulang base URL agar halaman dimulai dari kondisi bersih
+            driver.get(baseUrl);
+            return true;
+        } catch (Exception e) {
+            logger.error("Gagal me-reset sesi Firefox", e);
+            return false;
+        }
+    }
+
+    /**
+     * Metode untuk menutup sesi dan menghapusnya dari pool
+     * @param driver sesi yang akan ditutup
+     */
+    private void retire(WebDriver driver) {
+        sessions.remove(driver);
+        retired.incrementAndGet();
+        try {
+            factory.quitDriver(driver);
+            logger.info("Browser ditutup");
+        } catch (Exception e) {
+            logger.error("Gagal menutup browser", e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.dicoding.test.base;
+
+import com.dicoding.test.utils.Hashes;
+import com.dicoding.test.utils.TestConfig;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * GeckoDriverResolver menentukan lokasi binary geckodriver satu kali per JVM
+ * Binary yang sudah diunduh disimpan di direktori cache lokal beserta checksum SHA-256,
+ * sehingga run berikutnya (termasuk di mesin tanpa internet) tidak perlu resolusi ulang
+ */
+public class GeckoDriverResolver {
+    private static final Logger logger = LogManager.getLogger(GeckoDriverResolver.class);
+
+    private static final String GECKO_DRIVER_PROPERTY = "webdriver.gecko.driver";
+    private static final String CHECKSUM_SUFFIX = ".sha256";
+
+    private static volatile Path resolvedPath;
+
+    /**
+     * Metode untuk mendapatkan path geckodriver, resolusi hanya dilakukan pada pemanggilan pertama
+     * Urutan resolusi: -Dgeckodriver.path, cache lokal, lalu WebDriverManager (jika tidak offline)
+     * @return path ke binary geckodriver
+     * @throws IllegalStateException jika binary tidak ditemukan atau checksum tidak cocok
+     */
+    public static Path resolve() {
+        Path path = resolvedPath;
+        if (path != null) {
+            return path;
+        }
+        synchronized (GeckoDriverResolver.class) {
+            if (resolvedPath == null) {
+                long start = System.nanoTime();
+                resolvedPath = doResolve();
+                System.setProperty(GECKO_DRIVER_PROPERTY, resolvedPath.toString());
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                logger.info("Resolusi geckodriver selesai dalam {} ms: {}", elapsedMillis, resolvedPath);
+            }
+            return resolvedPath;
+        }
+    }
+
+    private static Path doResolve() {
+        // 1. Binary yang dipin secara eksplisit
+        String pinnedPath = TestConfig.getString("geckodriver.path", System.getProperty(GECKO_DRIVER_PROPERTY));
+        if (pinnedPath != null) {
+            Path binary = Paths.get(pinnedPath);
+            verifyBinary(binary, TestConfig.getString("geckodriver.sha256", null));
+            logger.info("Memakai geckodriver yang dipin: {}", binary);
+            return binary;
+        }
+
+        // 2. Cache lokal per mesin
+        Path cacheDir = getCacheDirectory();
+        Path cachedBinary = cacheDir.resolve(getBinaryName());
+        boolean offline = TestConfig.getBoolean("geckodriver.offline", false);
+        boolean refresh = TestConfig.getBoolean("geckodriver.refresh", false);
+        if (Files.isExecutable(cachedBinary) && (offline || !refresh)) {
+            verifyBinary(cachedBinary, readChecksumFile(cachedBinary));
+            logger.info("Memakai geckodriver dari cache lokal: {}", cachedBinary);
+            return cachedBinary;
+        }
+        if (offline) {
+            throw new IllegalStateException("Mode offline aktif tetapi geckodriver tidak ditemukan di cache "
+                    + cacheDir + ". Jalankan test sekali secara online untuk mengisi cache, atau set "
+                    + "-Dgeckodriver.path=<path ke geckodriver>");
+        }
+
+        // 3. Resolusi online melalui WebDriverManager, lalu simpan ke cache lokal
+        WebDriverManager manager = WebDriverManager.firefoxdriver();
+        String version = TestConfig.getString("geckodriver.version", null);
+        if (version != null) {
+            manager.driverVersion(version);
+        }
+        manager.setup();
+        Path downloaded = Paths.get(manager.getDownloadedDriverPath());
+        return storeInCache(downloaded, cachedBinary);
+    }
+
+    /**
+     * Metode untuk mendapatkan direktori cache geckodriver
+     * @return direktori cache, dipisah per versi jika -Dgeckodriver.version diberikan
+     */
+    private static Path getCacheDirectory() {
+        String defaultDir = Paths.get(System.getProperty("user.home"), ".cache", "dicoding-automation", "geckodriver")
+                .toString();
+        Path cacheDir = Paths.get(TestConfig.getString("geckodriver.cacheDir", defaultDir));
+        return cacheDir.resolve(TestConfig.getString("geckodriver.version", "latest"));
+    }
+
+    private static String getBinaryName() {
+        return System.getProperty("os.name").toLowerCase().startsWith("windows") ? "geckodriver.exe" : "geckodriver";
+    }
+
+    private static Path storeInCache(Path downloaded, Path cachedBinary) {
+        try {
+            Files.createDirectories(cachedBinary.getParent());
+            Files.copy(downloaded, cachedBinary, StandardCopyOption.REPLACE_EXISTING);
+            cachedBinary.toFile().setExecutable(true);
+            Files.write(checksumFileOf(cachedBinary), Hashes.sha256(cachedBinary).getBytes(StandardCharsets.UTF_8));
+            logger.info("Geckodriver disimpan ke cache lokal: {}", cachedBinary);
+            return cachedBinary;
+        } catch (IOException e) {
+            logger.warn("Gagal menyimpan geckodriver ke cache lokal, memakai hasil unduhan langsung", e);
+            return downloaded;
+        }
+    }
+
+    /**
+     * Metode untuk memastikan binary ada, dapat dieksekusi, dan checksum-nya sesuai
+     * @param binary path binary geckodriver
+     * @param expectedChecksum checksum SHA-256 yang diharapkan, atau null untuk melewati verifikasi
+     */
+    private static void verifyBinary(Path binary, String expectedChecksum) {
+        if (!Files.isRegularFile(binary)) {
+            throw new IllegalStateException("Binary geckodriver tidak ditemukan: " + binary);
+        }
+        if (!Files.isExecutable(binary)) {
+            throw new IllegalStateException("Binary geckodriver tidak dapat dieksekusi: " + binary);
+        }
+        if (expectedChecksum == null) {
+            return;
+        }
+        try {
+            String actualChecksum = Hashes.sha256(binary);
+            if (!actualChecksum.equalsIgnoreCase(expectedChecksum.trim())) {
+                throw new IllegalStateException("Checksum geckodriver tidak cocok untuk " + binary
+                        + " (diharapkan " + expectedChecksum.trim() + ", didapat " + actualChecksum + ")");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Gagal membaca binary geckodriver: " + binary, e);
+        }
+    }
+
+    private static String readChecksumFile(Path binary) {
+        Path checksumFile = checksumFileOf(binary);
+        if (!Files.exists(checksumFile)) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(checksumFile), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Gagal membaca checksum geckodriver: " + checksumFile, e);
+        }
+    }
+
+    private static Path checksumFileOf(Path binary) {
+        return binary.resolveSibling(binary.getFileName() + CHECKSUM_SUFFIX);
+    }
+}
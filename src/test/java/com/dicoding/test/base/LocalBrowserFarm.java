@@ -0,0 +1,221 @@
+package com.dicoding.test.base;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LocalBrowserFarm menjalankan beberapa node Selenium standalone di mesin lokal, masing-masing di JVM dan port sendiri
+ * Browser dan geckodriver berjalan di proses node, sehingga tidak berbagi CPU dan memori dengan JVM test.
+ * Suite memakai node ini melalui RemoteWebDriver dengan cara yang sama seperti memakai Selenium Grid sungguhan
+ */
+public class LocalBrowserFarm implements Closeable {
+    private static final Logger logger = LogManager.getLogger(LocalBrowserFarm.class);
+    private static final Json JSON = new Json();
+
+    private static final String GRID_MAIN = "org.openqa.selenium.grid.Main";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final int nodeCount;
+    private final int basePort;
+    private final int maxSessions;
+    private final Path logDir;
+    private final List<Process> processes = new ArrayList<>();
+    private final List<URL> nodeUrls = new ArrayList<>();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private Thread shutdownHook;
+
+    /**
+     * Konstruktor untuk LocalBrowserFarm, node belum dijalankan
+     * @param nodeCount jumlah node
+     * @param basePort port node pertama, node berikutnya memakai port setelahnya; 0 untuk port acak
+     * @param maxSessions jumlah maksimum sesi paralel per node
+     * @param logDir direktori log setiap node
+     */
+    public LocalBrowserFarm(int nodeCount, int basePort, int maxSessions, Path logDir) {
+        this.nodeCount = Math.max(1, nodeCount);
+        this.basePort = basePort;
+        this.maxSessions = Math.max(1, maxSessions);
+        this.logDir = logDir;
+    }
+
+    /**
+     * Metode untuk menjalankan semua node dan menunggu sampai setiap node siap menerima sesi
+     * @throws IllegalStateException jika ada node yang berhenti atau tidak siap dalam 60 detik
+     */
+    public synchronized void start() throws IOException {
+        Path geckodriver = GeckoDriverResolver.resolve();
+        Files.createDirectories(logDir);
+        shutdownHook = new Thread(this::destroyProcesses, "browser-farm-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        long start = System.nanoTime();
+        List<Integer> ports = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            int port = basePort > 0 ? basePort + i : freePort();
+            ports.add(port);
+            processes.add(launch(port, geckodriver));
+            nodeUrls.add(new URL("http://localhost:" + port));
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            awaitReady(processes.get(i), ports.get(i));
+        }
+        logger.info("{} node browser lokal siap dalam {} ms: {}", nodeCount,
+                (System.nanoTime() - start) / 1_000_000, nodeUrls);
+    }
+
+    /**
+     * @return URL endpoint WebDriver setiap node
+     */
+    public synchronized List<URL> getNodeUrls() {
+        return Collections.unmodifiableList(new ArrayList<>(nodeUrls));
+    }
+
+    /**
+     * Metode untuk menghentikan semua node
+     */
+    @Override
+    public synchronized void close() {
+        destroyProcesses();
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // JVM sedang berhenti, shutdown hook sudah berjalan
+            }
+            shutdownHook = null;
+        }
+        logger.info("Node browser lokal dihentikan");
+    }
+
+    /**
+     * Menjalankan farm tanpa suite, misalnya untuk dipakai beberapa JVM test melalui -Ddriver.remote
+     * Argumen: [jumlah node, default 2] [port node pertama, default 5555] [sesi per node, default 2]
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int nodes = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 5555;
+        int sessions = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        LocalBrowserFarm farm = new LocalBrowserFarm(nodes, port, sessions, Paths.get("test-output", "farm"));
+        farm.start();
+        StringBuilder urls = new StringBuilder();
+        for (URL url : farm.getNodeUrls()) {
+            urls.append(urls.length() > 0 ? "," : "").append(url);
+        }
+        System.out.println("-Ddriver.remote=" + urls);
+        // Node dihentikan oleh shutdown hook saat proses dihentikan (Ctrl+C)
+        new CountDownLatch(1).await();
+    }
+
+    private Process launch(int port, Path geckodriver) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("-Dwebdriver.gecko.driver=" + geckodriver.toAbsolutePath());
+        command.add(GRID_MAIN);
+        command.add("standalone");
+        command.add("--port");
+        command.add(String.valueOf(port));
+        command.add("--max-sessions");
+        command.add(String.valueOf(maxSessions));
+        command.add("--override-max-sessions");
+        command.add("true");
+        command.add("--selenium-manager");
+        command.add("false");
+
+        Path log = logDir.resolve("node-" + port + ".log");
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile());
+        // geckodriver juga dicari di PATH oleh deteksi driver node
+        Path driverDir = geckodriver.toAbsolutePath().getParent();
+        builder.environment().merge("PATH", driverDir.toString(), (path, dir) -> dir + File.pathSeparator + path);
+        logger.debug("Menjalankan node browser di port {}, log di {}", port, log);
+        return builder.start();
+    }
+
+    private void awaitReady(Process process, int port) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/status"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Node browser di port " + port + " berhenti dengan kode "
+                        + process.exitValue() + ", lihat " + logDir.resolve("node-" + port + ".log"));
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && isReady(response.body())) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Node belum membuka port
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Terinterupsi saat menunggu node browser siap", e);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Terinterupsi saat menunggu node browser siap", e);
+            }
+        }
+        throw new IllegalStateException("Node browser di port " + port + " tidak siap dalam "
+                + STARTUP_TIMEOUT.getSeconds() + " detik, lihat " + logDir.resolve("node-" + port + ".log"));
+    }
+
+    private static boolean isReady(String body) {
+        try {
+            Map<String, Object> status = JSON.toType(body, Json.MAP_TYPE);
+            Object value = status.get("value");
+            return value instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) value).get("ready"));
+        } catch (JsonException e) {
+            return false;
+        }
+    }
+
+    private synchronized void destroyProcesses() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.dicoding.test.base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+
+/**
+ * PageLoadTiming berisi timing muat halaman dari Navigation Timing dan Resource Timing browser
+ * Dipakai untuk membandingkan muat halaman dengan cache kosong dan cache yang sudah terisi
+ */
+public class PageLoadTiming {
+    // Resource dengan transferSize 0 tetapi isi tidak kosong dilayani dari cache browser
+    private static final String TIMING_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];"
+            + "var resources = performance.getEntriesByType('resource');"
+            + "var bytes = nav ? nav.transferSize : 0, cached = 0;"
+            + "for (var i = 0; i < resources.length; i++) {"
+            + "  bytes += resources[i].transferSize;"
+            + "  if (resources[i].transferSize === 0 && resources[i].decodedBodySize > 0) { cached++; }"
+            + "}"
+            + "return {load: nav ? (nav.loadEventEnd || nav.duration) : 0, bytes: bytes,"
+            + "  resources: resources.length, cached: cached};";
+
+    private final long loadMillis;
+    private final long transferBytes;
+    private final long resources;
+    private final long cachedResources;
+
+    private PageLoadTiming(long loadMillis, long transferBytes, long resources, long cachedResources) {
+        this.loadMillis = loadMillis;
+        this.transferBytes = transferBytes;
+        this.resources = resources;
+        this.cachedResources = cachedResources;
+    }
+
+    /**
+     * Metode untuk membuka URL lalu membaca timing muat halamannya
+     * @param driver sesi browser
+     * @param url URL yang dibuka
+     * @return timing muat halaman
+     */
+    public static PageLoadTiming open(WebDriver driver, String url) {
+        driver.get(url);
+        Object result = ((JavascriptExecutor) driver).executeScript(TIMING_SCRIPT);
+        Map<?, ?> timing = result instanceof Map ? (Map<?, ?>) result : Map.of();
+        return new PageLoadTiming(asLong(timing.get("load")), asLong(timing.get("bytes")),
+                asLong(timing.get("resources")), asLong(timing.get("cached")));
+    }
+
+    /**
+     * Membuat timing dari nilai yang tersimpan, misalnya dari file penanda profile template
+     */
+    static PageLoadTiming of(long loadMillis, long transferBytes, long resources, long cachedResources) {
+        return new PageLoadTiming(loadMillis, transferBytes, resources, cachedResources);
+    }
+
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    public long getTransferBytes() {
+        return transferBytes;
+    }
+
+    public long getResources() {
+        return resources;
+    }
+
+    public long getCachedResources() {
+        return cachedResources;
+    }
+
+    @Override
+    public String toString() {
+        return loadMillis + " ms, " + transferBytes / 1024 + " KB ditransfer, "
+                + cachedResources + "/" + resources + " resource dari cache";
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
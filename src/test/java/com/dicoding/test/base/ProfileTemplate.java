@@ -0,0 +1,306 @@
+package com.dicoding.test.base;
+
+import com.dicoding.test.metrics.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ProfileTemplate membangun profile Firefox sekali dengan preferensi untuk otomasi dan cache HTTP yang sudah terisi
+ * Setiap sesi memakai salinan profile ini, sehingga aset statis website tidak diunduh ulang di setiap sesi.
+ * Template dibangun ulang jika sudah melewati umur maksimum, base URL berubah, atau diminta secara eksplisit
+ */
+public class ProfileTemplate {
+    private static final Logger logger = LogManager.getLogger(ProfileTemplate.class);
+
+    private static final String MARKER_FILE = "template.properties";
+    // File kunci dan prefs.js tidak ikut disalin: prefs.js dari sesi pembangun bisa berisi port proxy yang sudah mati
+    private static final Set<String> SKIPPED_FILES = Set.of(MARKER_FILE, "parent.lock", "lock", ".parentlock", "prefs.js");
+
+    // Preferensi untuk otomasi: tanpa telemetri, update, pemeriksaan ekstensi, dan halaman sambutan
+    private static final Map<String, Object> PREFERENCES = new LinkedHashMap<>();
+
+    static {
+        PREFERENCES.put("app.update.auto", false);
+        PREFERENCES.put("app.update.enabled", false);
+        PREFERENCES.put("app.update.disabledForTesting", true);
+        PREFERENCES.put("app.normandy.enabled", false);
+        PREFERENCES.put("toolkit.telemetry.enabled", false);
+        PREFERENCES.put("toolkit.telemetry.unified", false);
+        PREFERENCES.put("toolkit.telemetry.archive.enabled", false);
+        PREFERENCES.put("datareporting.healthreport.uploadEnabled", false);
+        PREFERENCES.put("datareporting.policy.dataSubmissionEnabled", false);
+        PREFERENCES.put("browser.ping-centre.telemetry", false);
+        PREFERENCES.put("browser.newtabpage.activity-stream.feeds.telemetry", false);
+        PREFERENCES.put("extensions.update.enabled", false);
+        PREFERENCES.put("extensions.getAddons.cache.enabled", false);
+        PREFERENCES.put("extensions.systemAddon.update.enabled", false);
+        PREFERENCES.put("browser.safebrowsing.malware.enabled", false);
+        PREFERENCES.put("browser.safebrowsing.phishing.enabled", false);
+        PREFERENCES.put("browser.safebrowsing.downloads.enabled", false);
+        PREFERENCES.put("browser.shell.checkDefaultBrowser", false);
+        PREFERENCES.put("browser.startup.homepage_override.mstone", "ignore");
+        PREFERENCES.put("browser.aboutwelcome.enabled", false);
+        PREFERENCES.put("browser.sessionstore.resume_from_crash", false);
+        PREFERENCES.put("network.captive-portal-service.enabled", false);
+        PREFERENCES.put("network.connectivity-service.enabled", false);
+        // Cache disk tetap aktif dengan kapasitas tetap agar isi template tidak dipangkas otomatis
+        PREFERENCES.put("browser.cache.disk.enable", true);
+        PREFERENCES.put("browser.cache.disk.smart_size.enabled", false);
+        PREFERENCES.put("browser.cache.disk.capacity", 1048576);
+    }
+
+    private final Path directory;
+    private final String baseUrl;
+    private final List<String> warmupPaths;
+    private final Duration maxAge;
+    private final boolean refresh;
+
+    private PageLoadTiming coldLoad;
+    private final LatencyHistogram warmLoads = new LatencyHistogram();
+    private final AtomicLong warmBytes = new AtomicLong();
+    private final AtomicLong clones = new AtomicLong();
+    private final AtomicLong cloneNanos = new AtomicLong();
+
+    /**
+     * Konstruktor untuk ProfileTemplate
+     * @param directory direktori template
+     * @param baseUrl URL yang dibuka untuk mengisi cache
+     * @param warmupPaths path tambahan di base URL yang ikut dibuka saat mengisi cache
+     * @param maxAge umur maksimum template sebelum dibangun ulang
+     * @param refresh true untuk membangun ulang template tanpa melihat umurnya
+     */
+    public ProfileTemplate(Path directory, String baseUrl, List<String> warmupPaths, Duration maxAge, boolean refresh) {
+        this.directory = directory.toAbsolutePath();
+        this.baseUrl = baseUrl;
+        this.warmupPaths = warmupPaths;
+        this.maxAge = maxAge;
+        this.refresh = refresh;
+    }
+
+    /**
+     * Metode untuk memastikan template tersedia dan masih segar, membangunnya jika perlu
+     * @param factory factory untuk menjalankan Firefox yang mengisi cache template
+     * @throws IOException jika template tidak dapat ditulis
+     */
+    public void prepare(DriverFactory factory) throws IOException {
+        Properties marker = readMarker();
+        if (!refresh && isFresh(marker)) {
+            coldLoad = PageLoadTiming.of(Long.parseLong(marker.getProperty("cold.loadMillis", "0")),
+                    Long.parseLong(marker.getProperty("cold.bytes", "0")),
+                    Long.parseLong(marker.getProperty("cold.resources", "0")), 0);
+            logger.info("Memakai profile template {} yang dibuat {}", directory, marker.getProperty("created"));
+            return;
+        }
+
+        logger.info("Membangun profile template di {}", directory);
+        deleteRecursively(directory);
+        Files.createDirectories(directory);
+        writeUserJs(directory);
+
+        WebDriver driver = factory.createDriver(directory);
+        try {
+            coldLoad = PageLoadTiming.open(driver, baseUrl);
+            for (String path : warmupPaths) {
+                driver.get(baseUrl + path);
+            }
+        } finally {
+            // Firefox menulis indeks cache ke disk saat ditutup dengan normal
+            factory.quitDriver(driver);
+        }
+
+        // geckodriver menambahkan preferensinya sendiri ke user.js, tulis ulang agar template tetap bersih
+        writeUserJs(directory);
+        for (String file : SKIPPED_FILES) {
+            Files.deleteIfExists(directory.resolve(file));
+        }
+        Properties created = new Properties();
+        created.setProperty("created", String.valueOf(System.currentTimeMillis()));
+        created.setProperty("baseUrl", baseUrl);
+        created.setProperty("cold.loadMillis", String.valueOf(coldLoad.getLoadMillis()));
+        created.setProperty("cold.bytes", String.valueOf(coldLoad.getTransferBytes()));
+        created.setProperty("cold.resources", String.valueOf(coldLoad.getResources()));
+        try (OutputStream out = Files.newOutputStream(directory.resolve(MARKER_FILE))) {
+            created.store(out, "Profile template Firefox");
+        }
+        logger.info("Profile template selesai dibangun, muat awal dengan cache kosong: {}", coldLoad);
+    }
+
+    /**
+     * Metode untuk membuat salinan template untuk satu sesi
+     * Di Linux salinan dibuat dengan cp --reflink=auto (copy-on-write jika filesystem mendukung).
+     * Hard link tidak dipakai karena Firefox memperbarui file cache di tempat, sehingga template ikut berubah
+     * @return direktori profile baru
+     * @throws IOException jika profile tidak dapat disalin
+     */
+    public Path cloneProfile() throws IOException {
+        long start = System.nanoTime();
+        Path clone = Files.createTempDirectory("firefox-profile-");
+        if (!copyWithReflink(clone)) {
+            copyRecursively(clone);
+        }
+        for (String file : SKIPPED_FILES) {
+            Files.deleteIfExists(clone.resolve(file));
+        }
+        clones.incrementAndGet();
+        cloneNanos.addAndGet(System.nanoTime() - start);
+        return clone;
+    }
+
+    /**
+     * Metode untuk mencatat muat halaman pertama sesi yang memakai salinan template
+     * @param timing timing muat halaman
+     */
+    public void recordWarmLoad(PageLoadTiming timing) {
+        warmLoads.record(TimeUnit.MILLISECONDS.toNanos(timing.getLoadMillis()));
+        warmBytes.addAndGet(timing.getTransferBytes());
+    }
+
+    /**
+     * Metode untuk mendapatkan perbandingan muat halaman dengan cache kosong dan cache dari template
+     * @return ringkasan timing cold dan warm serta biaya menyalin template
+     */
+    public String getStatistics() {
+        StringBuilder statistics = new StringBuilder();
+        statistics.append("cold=").append(coldLoad == null ? "-" : coldLoad.getLoadMillis() + " ms/"
+                + coldLoad.getTransferBytes() / 1024 + " KB");
+        long warm = warmLoads.getCount();
+        if (warm > 0) {
+            statistics.append(String.format(", warm p50=%.0f ms p95=%.0f ms/%d KB (n=%d)",
+                    warmLoads.getPercentileMillis(50), warmLoads.getPercentileMillis(95),
+                    warmBytes.get() / warm / 1024, warm));
+        }
+        long cloned = clones.get();
+        if (cloned > 0) {
+            statistics.append(String.format(", salin profile rata-rata %.0f ms", cloneNanos.get() / 1e6 / cloned));
+        }
+        return statistics.toString();
+    }
+
+    /**
+     * Metode untuk menghapus salinan profile setelah sesinya ditutup
+     * @param clone direktori salinan profile
+     */
+    public static void deleteClone(Path clone) {
+        try {
+            deleteRecursively(clone);
+        } catch (IOException e) {
+            logger.warn("Gagal menghapus salinan profile {}", clone, e);
+        }
+    }
+
+    private boolean isFresh(Properties marker) {
+        if (marker == null || !baseUrl.equals(marker.getProperty("baseUrl"))) {
+            return false;
+        }
+        try {
+            long age = System.currentTimeMillis() - Long.parseLong(marker.getProperty("created"));
+            return age < maxAge.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private Properties readMarker() {
+        Path file = directory.resolve(MARKER_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        Properties marker = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            marker.load(in);
+            return marker;
+        } catch (IOException e) {
+            logger.warn("Gagal membaca {}, template dibangun ulang", file, e);
+            return null;
+        }
+    }
+
+    private static void writeUserJs(Path profile) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(profile.resolve("user.js"), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Object> preference : PREFERENCES.entrySet()) {
+                Object value = preference.getValue();
+                String literal = value instanceof String ? "\"" + value + "\"" : String.valueOf(value);
+                writer.write("user_pref(\"" + preference.getKey() + "\", " + literal + ");\n");
+            }
+        }
+    }
+
+    private boolean copyWithReflink(Path clone) {
+        if (!System.getProperty("os.name", "").toLowerCase().contains("linux")) {
+            return false;
+        }
+        try {
+            // Salin isi direktori (bukan direktorinya) ke direktori salinan yang sudah dibuat
+            Process process = new ProcessBuilder("cp", "-R", "--reflink=auto",
+                    directory + "/.", clone.toString())
+                    .redirectErrorStream(true)
+                    .start();
+            process.getInputStream().readAllBytes();
+            return process.waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void copyRecursively(Path clone) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(clone.resolve(directory.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (!SKIPPED_FILES.contains(file.getFileName().toString())) {
+                    Files.copy(file, clone.resolve(directory.relativize(file).toString()),
+                            StandardCopyOption.COPY_ATTRIBUTES);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package com.dicoding.test.base;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RemoteNodes berisi endpoint WebDriver remote (Selenium Grid atau node farm lokal) dan beban masing-masing
+ * Sesi baru dibuat di node dengan sesi aktif paling sedikit. Untuk Selenium Grid cukup satu URL,
+ * karena Grid sendiri yang membagi sesi ke node-nya
+ */
+public class RemoteNodes {
+
+    private final List<Node> nodes;
+
+    /**
+     * Satu node beserta bebannya, juga menjadi penanda sesi yang dikembalikan acquire() untuk release()
+     */
+    public static class Node {
+        private final URL url;
+        private int active;
+        private int created;
+
+        private Node(URL url) {
+            this.url = url;
+        }
+
+        /**
+         * @return URL endpoint WebDriver node
+         */
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public String toString() {
+            return url.toString();
+        }
+    }
+
+    /**
+     * Konstruktor untuk RemoteNodes
+     * @param urls URL endpoint WebDriver setiap node
+     */
+    public RemoteNodes(List<URL> urls) {
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("Minimal satu URL node remote dibutuhkan");
+        }
+        List<Node> parsed = new ArrayList<>();
+        for (URL url : urls) {
+            parsed.add(new Node(url));
+        }
+        this.nodes = Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * Metode untuk membaca daftar URL node
+     * @param value URL node yang dipisah koma, misalnya http://localhost:4444
+     * @return daftar node
+     */
+    public static RemoteNodes parse(String value) {
+        List<URL> urls = new ArrayList<>();
+        for (String url : value.split(",")) {
+            if (url.isBlank()) {
+                continue;
+            }
+            try {
+                urls.add(new URL(url.trim()));
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("URL node remote tidak valid: " + url, e);
+            }
+        }
+        return new RemoteNodes(urls);
+    }
+
+    /**
+     * Metode untuk memilih node bagi sesi baru
+     * @return node dengan sesi aktif paling sedikit; jika sama, node yang paling sedikit membuat sesi
+     */
+    public synchronized Node acquire() {
+        Node selected = nodes.get(0);
+        for (Node node : nodes) {
+            if (node.active < selected.active || (node.active == selected.active && node.created < selected.created)) {
+                selected = node;
+            }
+        }
+        selected.active++;
+        selected.created++;
+        return selected;
+    }
+
+    /**
+     * Metode untuk mencatat bahwa sesi di node sudah ditutup atau gagal dibuat
+     * Node dibandingkan sebagai referensi, bukan dengan URL.equals yang melakukan resolusi nama host
+     * @param node node yang dikembalikan acquire()
+     */
+    public synchronized void release(Node node) {
+        if (nodes.contains(node)) {
+            node.active = Math.max(0, node.active - 1);
+        }
+    }
+
+    /**
+     * Metode untuk mendapatkan ringkasan beban setiap node
+     * @return jumlah sesi aktif dan total sesi per node
+     */
+    public synchronized String getStatistics() {
+        StringBuilder statistics = new StringBuilder();
+        for (Node node : nodes) {
+            if (statistics.length() > 0) {
+                statistics.append(", ");
+            }
+            statistics.append(node.url.getHost()).append(':').append(node.url.getPort())
+                    .append('=').append(node.active).append(" aktif/").append(node.created).append(" sesi");
+        }
+        return statistics.toString();
+    }
+}
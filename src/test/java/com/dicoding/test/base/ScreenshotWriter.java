@@ -0,0 +1,153 @@
+package com.dicoding.test.base;
+
+import com.dicoding.test.utils.Hashes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScreenshotWriter menyimpan screenshot di background thread
+ * Screenshot dikompresi ulang lalu disimpan dengan nama hash SHA-256 dari isinya,
+ * sehingga screenshot yang identik (misalnya halaman 404 yang sama) hanya disimpan sekali
+ */
+public class ScreenshotWriter {
+    private static final Logger logger = LogManager.getLogger(ScreenshotWriter.class);
+
+    private final Path directory;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> knownHashes = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger deduplicated = new AtomicInteger();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Konstruktor untuk ScreenshotWriter
+     * @param directory direktori tujuan screenshot
+     * @param queueCapacity jumlah maksimum screenshot yang menunggu ditulis; jika penuh,
+     *                      screenshot ditulis langsung oleh thread pemanggil
+     */
+    public ScreenshotWriter(Path directory, int queueCapacity) {
+        this.directory = directory;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Metode untuk menjadwalkan penyimpanan screenshot
+     * Nama file langsung dikembalikan sehingga dapat ditautkan ke report sebelum file selesai ditulis
+     * @param png isi screenshot dalam format PNG
+     * @return nama file screenshot di dalam direktori tujuan
+     */
+    public String submit(byte[] png) {
+        String fileName = Hashes.sha256(png) + ".png";
+        if (!knownHashes.add(fileName) || Files.exists(directory.resolve(fileName))) {
+            deduplicated.incrementAndGet();
+            logger.info("Screenshot identik sudah tersimpan: {}", fileName);
+            return fileName;
+        }
+        executor.execute(() -> write(fileName, png));
+        return fileName;
+    }
+
+    /**
+     * Metode untuk menunggu semua screenshot selesai ditulis lalu menghentikan writer
+     * @param timeoutInSeconds batas waktu menunggu dalam detik
+     */
+    public void close(int timeoutInSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutInSeconds, TimeUnit.SECONDS)) {
+                logger.warn("Sebagian screenshot belum selesai ditulis setelah {} detik", timeoutInSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Terputus saat menunggu screenshot ditulis", e);
+        }
+        logger.info("Screenshot writer ditutup. {}", getStatistics());
+    }
+
+    /**
+     * Metode untuk mendapatkan ringkasan statistik writer
+     * @return jumlah screenshot yang ditulis, duplikat, dan byte yang dihemat kompresi
+     */
+    public String getStatistics() {
+        return "ditulis=" + written.get() + ", duplikat=" + deduplicated.get()
+                + ", hemat kompresi=" + bytesSaved.get() + " byte";
+    }
+
+    private void write(String fileName, byte[] png) {
+        try {
+            byte[] compressed = compress(png);
+            Path target = directory.resolve(fileName);
+            Path temp = Files.createTempFile(directory, fileName, ".tmp");
+            Files.write(temp, compressed);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            written.incrementAndGet();
+            bytesSaved.addAndGet(png.length - compressed.length);
+            logger.info("Screenshot disimpan: {}", target);
+        } catch (IOException e) {
+            knownHashes.remove(fileName);
+            logger.error("Gagal menyimpan screenshot {}", fileName, e);
+        }
+    }
+
+    /**
+     * Metode untuk mengompresi ulang PNG dengan tingkat kompresi maksimum
+     * @param png isi PNG asli
+     * @return PNG hasil kompresi, atau PNG asli jika hasilnya tidak lebih kecil
+     */
+    private byte[] compress(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("png");
+            if (image == null || !writers.hasNext()) {
+                return png;
+            }
+            ImageWriter writer = writers.next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(0.0f);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(png.length);
+            try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+                writer.setOutput(imageOut);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            byte[] compressed = out.toByteArray();
+            return compressed.length < png.length ? compressed : png;
+        } catch (IOException e) {
+            logger.warn("Gagal mengompresi screenshot, menyimpan PNG asli", e);
+            return png;
+        }
+    }
+}
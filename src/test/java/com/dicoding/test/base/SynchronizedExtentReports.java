@@ -0,0 +1,94 @@
+package com.dicoding.test.base;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.model.Author;
+import com.aventstack.extentreports.model.Category;
+import com.aventstack.extentreports.model.Device;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Media;
+import com.aventstack.extentreports.model.SystemEnvInfo;
+import com.aventstack.extentreports.model.Test;
+
+/**
+ * SynchronizedExtentReports adalah ExtentReports yang aman dipakai dari banyak thread
+ * Setiap perubahan pada model report dan notifikasi ke reporter diserialkan pada satu lock,
+ * sehingga log dari test yang berjalan paralel tidak saling menimpa
+ */
+public class SynchronizedExtentReports extends ExtentReports {
+
+    @Override
+    public synchronized ExtentTest createTest(String testName, String description) {
+        return super.createTest(testName, description);
+    }
+
+    @Override
+    public synchronized void removeTest(ExtentTest test) {
+        super.removeTest(test);
+    }
+
+    @Override
+    public synchronized void setSystemInfo(String key, String value) {
+        super.setSystemInfo(key, value);
+    }
+
+    @Override
+    public synchronized void flush() {
+        super.flush();
+    }
+
+    @Override
+    protected synchronized void onTestCreated(Test test) {
+        super.onTestCreated(test);
+    }
+
+    @Override
+    protected synchronized void onTestRemoved(Test test) {
+        super.onTestRemoved(test);
+    }
+
+    @Override
+    protected synchronized void onNodeCreated(Test node) {
+        super.onNodeCreated(node);
+    }
+
+    @Override
+    protected synchronized void onLogCreated(Log log, Test test) {
+        super.onLogCreated(log, test);
+    }
+
+    @Override
+    protected synchronized void onMediaAdded(Media media, Test test) {
+        super.onMediaAdded(media, test);
+    }
+
+    @Override
+    protected synchronized void onMediaAdded(Media media, Log log, Test test) {
+        super.onMediaAdded(media, log, test);
+    }
+
+    @Override
+    protected synchronized void onAuthorAdded(Author author, Test test) {
+        super.onAuthorAdded(author, test);
+    }
+
+    @Override
+    protected synchronized void onCategoryAdded(Category category, Test test) {
+        super.onCategoryAdded(category, test);
+    }
+
+    @Override
+    protected synchronized void onDeviceAdded(Device device, Test test) {
+        super.onDeviceAdded(device, test);
+    }
+
+    @Override
+    protected synchronized void onReportLogAdded(String log) {
+        super.onReportLogAdded(log);
+    }
+
+    @Override
+    protected synchronized void onSystemInfoAdded(SystemEnvInfo env) {
+        super.onSystemInfoAdded(env);
+    }
+}
@@ -0,0 +1,74 @@
+package com.dicoding.test.listeners;
+
+import com.dicoding.test.sharding.DurationHistory;
+import com.dicoding.test.utils.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DurationRecorder menyimpan durasi dan hasil setiap test method ke riwayat lokal di akhir suite
+ * Riwayat ini dipakai ScheduleInterceptor dan tetap ada setelah mvn clean. Run yang di-shard tidak disimpan,
+ * karena hanya berisi sebagian method; riwayat shard berasal dari testng-results.xml gabungan ShardMerger
+ */
+public class DurationRecorder implements ITestListener, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(DurationRecorder.class);
+
+    private final List<DurationHistory.Result> results = new ArrayList<>();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, "PASS");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, "FAIL");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, "SKIP");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<DurationHistory.Result> recorded;
+        synchronized (results) {
+            recorded = new ArrayList<>(results);
+            results.clear();
+        }
+        if (recorded.isEmpty()) {
+            return;
+        }
+        if (TestConfig.getInt("shard.total", 1) > 1) {
+            logger.info("Run shard tidak disimpan ke riwayat lokal; simpan testng-results.xml gabungan ke shard.history");
+            return;
+        }
+        // Lokasi pertama di history.dir adalah tempat run ini disimpan, lokasi lain hanya dibaca
+        Path dir = Paths.get(TestConfig.getString("history.dir", DurationHistory.DEFAULT_LOCATIONS).split(",")[0].trim());
+        try {
+            DurationHistory.writeRun(dir, recorded, TestConfig.getInt("history.runs", 10));
+            logger.info("Durasi {} test disimpan ke riwayat {}", recorded.size(), dir);
+        } catch (IOException e) {
+            logger.warn("Gagal menyimpan riwayat durasi ke {}", dir, e);
+        }
+    }
+
+    private void record(ITestResult result, String status) {
+        DurationHistory.Result entry = new DurationHistory.Result(result.getMethod().getRealClass().getName(),
+                result.getMethod().getMethodName(), status, result.getEndMillis() - result.getStartMillis());
+        synchronized (results) {
+            results.add(entry);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.dicoding.test.listeners;
+
+import com.dicoding.test.utils.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * ParallelSuiteListener mengatur mode paralel dan jumlah thread suite dari system property
+ * Contoh: mvn clean test -Dparallel=methods -Dthreads=16
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+    private static final Logger logger = LogManager.getLogger(ParallelSuiteListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String parallel = TestConfig.getString("parallel", null);
+        int threads = TestConfig.getInt("threads", 1);
+        if (parallel == null && threads <= 1) {
+            return;
+        }
+
+        XmlSuite.ParallelMode mode = parallel == null
+                ? XmlSuite.ParallelMode.METHODS
+                : XmlSuite.ParallelMode.getValidParallel(parallel);
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(Math.max(1, threads));
+            logger.info("Suite {} dijalankan dengan parallel={} dan {} thread", suite.getName(), mode, threads);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.dicoding.test.listeners;
+
+import com.dicoding.test.sharding.DurationHistory;
+import com.dicoding.test.utils.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScheduleInterceptor mengurutkan test method berdasarkan riwayat durasi dan hasil run sebelumnya
+ * Dengan schedule.order=longest, method terlama dijalankan lebih dulu sehingga tidak ada test panjang yang
+ * dimulai paling akhir dan memperpanjang waktu suite. Dengan schedule.failFirst=true, method yang gagal
+ * pada run terakhir dijalankan paling awal agar CI memberi umpan balik lebih cepat
+ */
+public class ScheduleInterceptor implements IMethodInterceptor, ITestListener {
+    private static final Logger logger = LogManager.getLogger(ScheduleInterceptor.class);
+
+    // Perkiraan dan realisasi waktu suite untuk bagian System Info, dijumlahkan untuk setiap <test>
+    private static final AtomicLong predictedMillis = new AtomicLong();
+    private static final AtomicLong declaredMillis = new AtomicLong();
+    private static final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+    private static final AtomicLong lastEnd = new AtomicLong();
+    private static volatile String order;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        order = TestConfig.getString("schedule.order", "longest").trim().toLowerCase();
+        boolean failFirst = TestConfig.getBoolean("schedule.failFirst", false);
+        if ("none".equals(order) && !failFirst) {
+            return methods;
+        }
+
+        DurationHistory history = DurationHistory.load(
+                TestConfig.getString("history.dir", DurationHistory.DEFAULT_LOCATIONS));
+        Comparator<IMethodInstance> longestFirst = Comparator.comparingLong(
+                (IMethodInstance method) -> history.getExpectedMillis(name(method))).reversed();
+        Comparator<IMethodInstance> comparator;
+        if (failFirst) {
+            comparator = Comparator.comparing(method -> !history.isRecentlyFailed(name(method)));
+            if (!"none".equals(order)) {
+                comparator = comparator.thenComparing(longestFirst);
+            }
+        } else {
+            comparator = longestFirst;
+        }
+        List<IMethodInstance> scheduled = new ArrayList<>(methods);
+        // Sort stabil: method dengan kunci yang sama tetap dalam urutan deklarasi
+        scheduled.sort(comparator);
+
+        int threads = threadCount(context);
+        long predicted = makespan(scheduled, history, threads);
+        long declared = makespan(methods, history, threads);
+        predictedMillis.addAndGet(predicted);
+        declaredMillis.addAndGet(declared);
+        logger.info("Test {} dijadwalkan ({}, fail-first={}) dengan {} thread: perkiraan {} detik, urutan deklarasi {} detik",
+                context.getName(), order, failFirst, threads, predicted / 1000, declared / 1000);
+        return scheduled;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result);
+    }
+
+    /**
+     * Metode untuk mendapatkan perbandingan waktu suite yang diperkirakan dan yang terjadi
+     * @return ringkasan jadwal, atau null jika penjadwalan tidak aktif
+     */
+    public static String getStatistics() {
+        if (order == null || predictedMillis.get() == 0) {
+            return null;
+        }
+        long actual = Math.max(0, lastEnd.get() - firstStart.get());
+        return String.format("urutan=%s, perkiraan=%.1f detik (urutan deklarasi %.1f detik), aktual=%.1f detik",
+                order, predictedMillis.get() / 1000.0, declaredMillis.get() / 1000.0, actual / 1000.0);
+    }
+
+    /**
+     * Simulasi list scheduling: setiap method diambil thread yang paling cepat bebas, sesuai urutan daftar
+     */
+    private static long makespan(List<IMethodInstance> methods, DurationHistory history, int threads) {
+        PriorityQueue<Long> freeAt = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) {
+            freeAt.add(0L);
+        }
+        long makespan = 0;
+        for (IMethodInstance method : methods) {
+            long end = freeAt.poll() + history.getExpectedMillis(name(method));
+            makespan = Math.max(makespan, end);
+            freeAt.add(end);
+        }
+        return makespan;
+    }
+
+    private static int threadCount(ITestContext context) {
+        XmlSuite suite = context.getSuite().getXmlSuite();
+        if (suite == null || suite.getParallel() == null || suite.getParallel() == XmlSuite.ParallelMode.NONE) {
+            return 1;
+        }
+        return Math.max(1, suite.getThreadCount());
+    }
+
+    private static String name(IMethodInstance method) {
+        return method.getMethod().getQualifiedName();
+    }
+
+    private static void record(ITestResult result) {
+        firstStart.accumulateAndGet(result.getStartMillis(), Math::min);
+        lastEnd.accumulateAndGet(result.getEndMillis(), Math::max);
+    }
+}
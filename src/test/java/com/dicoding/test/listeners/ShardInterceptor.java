@@ -0,0 +1,95 @@
+package com.dicoding.test.listeners;
+
+import com.dicoding.test.sharding.DurationHistory;
+import com.dicoding.test.sharding.ShardPlanner;
+import com.dicoding.test.utils.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ShardInterceptor hanya menjalankan method milik shard ke-i dari N shard
+ * Setiap JVM melihat daftar method yang sama dan riwayat durasi bersama yang sama (shard.history), sehingga pembagian
+ * yang dihitung identik tanpa koordinasi antar mesin. Sidik jari pembagian dicatat di log dan di shard-plan.properties,
+ * lalu diperiksa oleh ShardMerger. Contoh: mvn clean test -Dshard.index=3 -Dshard.total=10
+ */
+public class ShardInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LogManager.getLogger(ShardInterceptor.class);
+
+    private static final Path PLAN_PATH = Paths.get("test-output", ShardPlanner.PLAN_FILE);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int total = TestConfig.getInt("shard.total", 1);
+        if (total <= 1) {
+            return methods;
+        }
+        int index = TestConfig.getInt("shard.index", 1);
+        if (index < 1 || index > total) {
+            throw new IllegalArgumentException("shard.index harus di antara 1 dan " + total + ", bukan " + index);
+        }
+
+        Set<String> names = new TreeSet<>();
+        for (IMethodInstance method : methods) {
+            names.add(method.getMethod().getQualifiedName());
+        }
+        // Riwayat lokal (history.dir) bisa berbeda di setiap agent, jadi pembagian hanya memakai riwayat bersama
+        String sharedHistory = TestConfig.getString("shard.history", "");
+        if (sharedHistory.isBlank()) {
+            logger.warn("shard.history tidak diatur, semua method dianggap berdurasi sama");
+        }
+        DurationHistory history = DurationHistory.load(sharedHistory);
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(new ArrayList<>(names), history, total);
+        for (ShardPlanner.Shard shard : shards) {
+            logger.info("Shard {}/{}: {} method, perkiraan {} detik", shard.getIndex(), total,
+                    shard.getMethods().size(), shard.getExpectedMillis() / 1000);
+        }
+        String fingerprint = ShardPlanner.fingerprint(shards);
+        logger.info("Sidik jari pembagian shard: {}", fingerprint);
+        String expected = TestConfig.getString("shard.plan", "");
+        if (!expected.isBlank() && !expected.equals(fingerprint)) {
+            throw new IllegalStateException("Pembagian shard " + fingerprint + " berbeda dengan shard.plan " + expected
+                    + "; daftar method atau shard.history tidak sama di semua agent");
+        }
+        writePlan(index, total, fingerprint);
+
+        Set<String> assigned = Set.copyOf(shards.get(index - 1).getMethods());
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (assigned.contains(method.getMethod().getQualifiedName())) {
+                selected.add(method);
+            }
+        }
+        logger.info("Test {} menjalankan shard {}/{}: {} dari {} method", context.getName(), index, total,
+                selected.size(), methods.size());
+        return selected;
+    }
+
+    private static void writePlan(int index, int total, String fingerprint) {
+        Properties plan = new Properties();
+        plan.setProperty("index", String.valueOf(index));
+        plan.setProperty("total", String.valueOf(total));
+        plan.setProperty("fingerprint", fingerprint);
+        try {
+            Files.createDirectories(PLAN_PATH.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(PLAN_PATH)) {
+                plan.store(out, "Pembagian shard, diperiksa oleh ShardMerger");
+            }
+        } catch (IOException e) {
+            logger.warn("Gagal menyimpan pembagian shard ke {}", PLAN_PATH, e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.dicoding.test.load;
+
+/**
+ * Journey adalah rangkaian langkah pengguna sintetis yang dibangun dari page object
+ * Bobot menentukan seberapa sering journey ini dipilih dibanding journey lain dalam satu run
+ */
+public class Journey {
+    private final String name;
+    private final int weight;
+    private final Body body;
+
+    /**
+     * Isi journey; setiap langkah dijalankan melalui JourneySession.step agar durasinya tercatat
+     */
+    public interface Body {
+        void run(JourneySession session) throws Exception;
+    }
+
+    /**
+     * Konstruktor untuk Journey
+     * @param name nama journey di report
+     * @param weight bobot pemilihan, minimal 1
+     * @param body langkah-langkah journey
+     */
+    public Journey(String name, int weight, Body body) {
+        this.name = name;
+        this.weight = Math.max(1, weight);
+        this.body = body;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public Body getBody() {
+        return body;
+    }
+}
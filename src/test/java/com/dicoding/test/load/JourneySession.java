@@ -0,0 +1,72 @@
+package com.dicoding.test.load;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.concurrent.Callable;
+
+/**
+ * JourneySession adalah satu eksekusi journey pada satu sesi browser
+ * Setiap langkah yang dijalankan melalui step() diukur durasinya dan dicatat ke LoadMetrics
+ */
+public class JourneySession {
+    private final String journey;
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final String baseUrl;
+    private final LoadMetrics metrics;
+    private String currentStep = "-";
+
+    JourneySession(String journey, WebDriver driver, WebDriverWait wait, String baseUrl, LoadMetrics metrics) {
+        this.journey = journey;
+        this.driver = driver;
+        this.wait = wait;
+        this.baseUrl = baseUrl;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Metode untuk menjalankan satu langkah journey dan mencatat durasinya
+     * Durasi langkah yang gagal tidak dicatat; kegagalan dicatat sebagai error journey
+     * @param name nama langkah di report
+     * @param action isi langkah
+     * @return hasil langkah, misalnya page object berikutnya
+     */
+    public <T> T step(String name, Callable<T> action) throws Exception {
+        currentStep = name;
+        long start = System.nanoTime();
+        T result = action.call();
+        metrics.recordStep(journey, name, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Metode untuk menggagalkan journey jika kondisi tidak terpenuhi
+     * @param condition kondisi yang harus benar
+     * @param message pesan kegagalan
+     */
+    public void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public WebDriverWait getWait() {
+        return wait;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * @return nama langkah yang sedang atau terakhir dijalankan
+     */
+    public String getCurrentStep() {
+        return currentStep;
+    }
+}
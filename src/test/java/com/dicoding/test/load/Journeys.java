@@ -0,0 +1,92 @@
+package com.dicoding.test.load;
+
+import com.dicoding.test.pages.HomePage;
+import com.dicoding.test.pages.LoginPage;
+import com.dicoding.test.pages.SearchResultPage;
+import com.dicoding.test.utils.TestConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Journeys berisi journey pengguna sintetis yang dibangun dari page object suite
+ */
+public class Journeys {
+
+    private Journeys() {
+    }
+
+    /**
+     * Journey pencarian: buka halaman utama, cari kata kunci, periksa hasil, lalu kembali ke halaman utama
+     * @param weight bobot pemilihan
+     * @param keyword kata kunci pencarian
+     * @return journey
+     */
+    public static Journey search(int weight, String keyword) {
+        return new Journey("search", weight, session -> {
+            HomePage homePage = session.step("buka halaman utama", () -> {
+                session.getDriver().get(session.getBaseUrl());
+                return new HomePage(session.getDriver(), session.getWait());
+            });
+            SearchResultPage resultPage = session.step("cari", () -> homePage.search(keyword));
+            session.check(session.step("muat hasil", resultPage::isPageLoaded), "Halaman hasil pencarian tidak dimuat");
+            HomePage backHome = session.step("kembali ke halaman utama", resultPage::goToHomePage);
+            session.check(session.step("muat halaman utama", backHome::isPageLoaded), "Halaman utama tidak dimuat");
+        });
+    }
+
+    /**
+     * Journey login dengan kredensial tidak valid: buka modal login, isi form, lalu pastikan tetap di website
+     * @param weight bobot pemilihan
+     * @param email email yang dipakai, jangan memakai akun sungguhan
+     * @param password password yang dipakai
+     * @return journey
+     */
+    public static Journey login(int weight, String email, String password) {
+        return new Journey("login", weight, session -> {
+            HomePage homePage = session.step("buka halaman utama", () -> {
+                session.getDriver().get(session.getBaseUrl());
+                return new HomePage(session.getDriver(), session.getWait());
+            });
+            LoginPage loginPage = session.step("buka modal login", homePage::clickLoginButton);
+            session.check(session.step("muat modal login", loginPage::isPageLoaded), "Modal login tidak dimuat");
+            session.step("login", () -> {
+                loginPage.login(email, password);
+                return null;
+            });
+            session.check(TestConfig.isOnSite(session.getDriver().getCurrentUrl()),
+                    "Tidak berada di website setelah login");
+        });
+    }
+
+    /**
+     * Metode untuk membaca daftar journey dari konfigurasi
+     * @param value nama journey dengan bobot opsional, misalnya search:3,login:1
+     * @return daftar journey
+     */
+    public static List<Journey> parse(String value) {
+        List<Journey> journeys = new ArrayList<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            switch (parts[0].trim()) {
+                case "search":
+                    journeys.add(search(weight, TestConfig.getString("load.keyword", "android")));
+                    break;
+                case "login":
+                    journeys.add(login(weight, TestConfig.getString("load.email", "loadtest@example.com"),
+                            TestConfig.getString("load.password", "password123")));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Journey tidak dikenal: " + parts[0]);
+            }
+        }
+        if (journeys.isEmpty()) {
+            throw new IllegalArgumentException("Minimal satu journey dibutuhkan di load.journeys");
+        }
+        return journeys;
+    }
+}
@@ -0,0 +1,215 @@
+package com.dicoding.test.load;
+
+import com.dicoding.test.metrics.LatencyHistogram;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoadMetrics mengumpulkan hasil run beban: distribusi latensi per journey dan per langkah,
+ * jumlah journey berhasil dan gagal per fase, jenis error, serta jeda antrean pada model terbuka
+ */
+public class LoadMetrics {
+
+    private static final double[] QUANTILES = {50, 90, 95, 99, 99.9};
+
+    private final Map<String, JourneyStats> journeys = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> steps = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+    private final LatencyHistogram queueDelay = new LatencyHistogram();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Hasil satu journey: latensi seluruh run dan fase steady, serta jumlah per fase
+     */
+    private static class JourneyStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram steadyLatency = new LatencyHistogram();
+        private final Map<LoadProfile.Phase, AtomicLong> completed = new EnumMap<>(LoadProfile.Phase.class);
+        private final Map<LoadProfile.Phase, AtomicLong> failed = new EnumMap<>(LoadProfile.Phase.class);
+
+        private JourneyStats() {
+            for (LoadProfile.Phase phase : LoadProfile.Phase.values()) {
+                completed.put(phase, new AtomicLong());
+                failed.put(phase, new AtomicLong());
+            }
+        }
+    }
+
+    /**
+     * Metode untuk mencatat satu journey yang selesai
+     * @param journey nama journey
+     * @param phase fase saat journey dimulai
+     * @param nanos latensi journey
+     * @param success true jika semua langkah berhasil
+     */
+    public void recordJourney(String journey, LoadProfile.Phase phase, long nanos, boolean success) {
+        JourneyStats stats = journeys.computeIfAbsent(journey, k -> new JourneyStats());
+        stats.completed.get(phase).incrementAndGet();
+        if (!success) {
+            stats.failed.get(phase).incrementAndGet();
+            return;
+        }
+        stats.latency.record(nanos);
+        if (phase == LoadProfile.Phase.STEADY) {
+            stats.steadyLatency.record(nanos);
+        }
+    }
+
+    /**
+     * Metode untuk mencatat durasi satu langkah journey
+     */
+    public void recordStep(String journey, String step, long nanos) {
+        steps.computeIfAbsent(journey + " / " + step, k -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Metode untuk mencatat error journey berdasarkan langkah dan jenis exception
+     */
+    public void recordError(String journey, String step, Throwable error) {
+        errors.computeIfAbsent(journey + " / " + step + ": " + error.getClass().getSimpleName(), k -> new AtomicLong())
+                .incrementAndGet();
+    }
+
+    /**
+     * Metode untuk mencatat jeda antara jadwal kedatangan journey dan saat journey mendapat browser
+     */
+    public void recordQueueDelay(long nanos) {
+        queueDelay.record(nanos);
+    }
+
+    /**
+     * Metode untuk mencatat journey yang dijadwalkan tetapi masih menunggu browser saat run selesai
+     * Waktu tunggunya dicatat sebagai latensi (batas bawah), karena justru kedatangan inilah yang paling lambat;
+     * tanpa dicatat, ekor distribusi latensi tampak lebih baik dari kenyataan. Kedatangan ini juga dihitung sebagai
+     * journey gagal pada fasenya, agar error rate sejalan dengan distribusi latensi tersebut
+     * @param journey nama journey
+     * @param phase fase saat journey dijadwalkan
+     * @param nanos waktu sejak jadwal kedatangan sampai run selesai
+     */
+    public void recordDropped(String journey, LoadProfile.Phase phase, long nanos) {
+        dropped.incrementAndGet();
+        queueDelay.record(nanos);
+        JourneyStats stats = journeys.computeIfAbsent(journey, k -> new JourneyStats());
+        stats.completed.get(phase).incrementAndGet();
+        stats.failed.get(phase).incrementAndGet();
+        stats.latency.record(nanos);
+        if (phase == LoadProfile.Phase.STEADY) {
+            stats.steadyLatency.record(nanos);
+        }
+    }
+
+    /**
+     * Metode untuk menyusun ringkasan run per journey
+     * @param profile profil beban run
+     * @return satu baris per journey: jumlah, error rate, throughput steady, dan persentil latensi steady
+     */
+    public List<String> summarize(LoadProfile profile) {
+        List<String> lines = new ArrayList<>();
+        double steadySeconds = profile.getNanos(LoadProfile.Phase.STEADY) / 1e9;
+        new TreeMap<>(journeys).forEach((name, stats) -> {
+            long total = sum(stats.completed);
+            long failed = sum(stats.failed);
+            long steady = stats.completed.get(LoadProfile.Phase.STEADY).get();
+            LatencyHistogram latency = stats.steadyLatency.getCount() > 0 ? stats.steadyLatency : stats.latency;
+            lines.add(String.format(Locale.ROOT,
+                    "%s: %d journey, %d gagal (%.1f%%), throughput steady %.2f/detik, "
+                            + "latensi p50=%.0f p95=%.0f p99=%.0f maks=%.0f ms",
+                    name, total, failed, total == 0 ? 0.0 : 100.0 * failed / total,
+                    steadySeconds > 0 ? steady / steadySeconds : 0.0,
+                    latency.getPercentileMillis(50), latency.getPercentileMillis(95),
+                    latency.getPercentileMillis(99), latency.getMaxMillis()));
+        });
+        if (queueDelay.getCount() > 0 || dropped.get() > 0) {
+            lines.add(String.format(Locale.ROOT, "antrean browser: p50=%.0f p95=%.0f ms, tidak sempat dijalankan=%d",
+                    queueDelay.getPercentileMillis(50), queueDelay.getPercentileMillis(95), dropped.get()));
+        }
+        return lines;
+    }
+
+    /**
+     * Metode untuk menulis hasil run lengkap dalam format JSON
+     * @param file file tujuan
+     * @param profile profil beban run
+     * @throws IOException jika file tidak dapat ditulis
+     */
+    public void exportJson(Path file, LoadProfile profile) throws IOException {
+        List<Object> journeyRows = new ArrayList<>();
+        new TreeMap<>(journeys).forEach((name, stats) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("journey", name);
+            Map<String, Object> phases = new LinkedHashMap<>();
+            for (LoadProfile.Phase phase : LoadProfile.Phase.values()) {
+                long completed = stats.completed.get(phase).get();
+                long failed = stats.failed.get(phase).get();
+                double seconds = profile.getNanos(phase) / 1e9;
+                Map<String, Object> phaseRow = new LinkedHashMap<>();
+                phaseRow.put("completed", completed);
+                phaseRow.put("failed", failed);
+                phaseRow.put("errorRate", completed == 0 ? 0.0 : round((double) failed / completed));
+                phaseRow.put("throughputPerSecond", seconds > 0 ? round(completed / seconds) : 0.0);
+                phases.put(phase.getLabel(), phaseRow);
+            }
+            row.put("phases", phases);
+            row.put("latency", distribution(stats.latency));
+            row.put("steadyLatency", distribution(stats.steadyLatency));
+            journeyRows.add(row);
+        });
+        List<Object> stepRows = new ArrayList<>();
+        new TreeMap<>(steps).forEach((name, histogram) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("step", name);
+            row.putAll(distribution(histogram));
+            stepRows.add(row);
+        });
+        Map<String, Object> errorRows = new TreeMap<>();
+        errors.forEach((key, count) -> errorRows.put(key, count.get()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("profile", profile.toString());
+        report.put("journeys", journeyRows);
+        report.put("steps", stepRows);
+        report.put("errors", errorRows);
+        report.put("queueDelay", distribution(queueDelay));
+        report.put("dropped", dropped.get());
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Object> distribution(LatencyHistogram histogram) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("count", histogram.getCount());
+        row.put("meanMs", round(histogram.getMeanMillis()));
+        row.put("minMs", round(histogram.getMinMillis()));
+        for (double quantile : QUANTILES) {
+            row.put("p" + String.valueOf(quantile).replace(".0", "") + "Ms",
+                    round(histogram.getPercentileMillis(quantile)));
+        }
+        row.put("maxMs", round(histogram.getMaxMillis()));
+        return row;
+    }
+
+    private static long sum(Map<LoadProfile.Phase, AtomicLong> counts) {
+        long total = 0;
+        for (AtomicLong count : counts.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,116 @@
+package com.dicoding.test.load;
+
+import java.time.Duration;
+
+/**
+ * LoadProfile menentukan target beban terhadap waktu: ramp-up linier, steady, lalu ramp-down linier
+ * Target berupa jumlah pengguna bersamaan (model tertutup) atau jumlah journey per detik (model terbuka)
+ */
+public class LoadProfile {
+
+    /**
+     * Fase run beban
+     */
+    public enum Phase {
+        RAMP_UP("ramp-up"), STEADY("steady"), RAMP_DOWN("ramp-down");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final boolean openModel;
+    private final double target;
+    private final long rampUpNanos;
+    private final long steadyNanos;
+    private final long rampDownNanos;
+
+    /**
+     * Konstruktor untuk LoadProfile
+     * @param openModel true untuk target journey per detik, false untuk target pengguna bersamaan
+     * @param target jumlah pengguna atau journey per detik pada fase steady
+     * @param rampUp durasi ramp-up
+     * @param steady durasi steady
+     * @param rampDown durasi ramp-down
+     */
+    public LoadProfile(boolean openModel, double target, Duration rampUp, Duration steady, Duration rampDown) {
+        this.openModel = openModel;
+        this.target = target;
+        this.rampUpNanos = rampUp.toNanos();
+        this.steadyNanos = steady.toNanos();
+        this.rampDownNanos = rampDown.toNanos();
+    }
+
+    public boolean isOpenModel() {
+        return openModel;
+    }
+
+    public double getTarget() {
+        return target;
+    }
+
+    /**
+     * @return durasi total run dalam nanodetik
+     */
+    public long getTotalNanos() {
+        return rampUpNanos + steadyNanos + rampDownNanos;
+    }
+
+    /**
+     * @return durasi fase dalam nanodetik
+     */
+    public long getNanos(Phase phase) {
+        switch (phase) {
+            case RAMP_UP:
+                return rampUpNanos;
+            case STEADY:
+                return steadyNanos;
+            default:
+                return rampDownNanos;
+        }
+    }
+
+    /**
+     * Metode untuk menentukan fase pada waktu tertentu
+     * @param elapsedNanos waktu sejak run dimulai
+     * @return fase run
+     */
+    public Phase phaseAt(long elapsedNanos) {
+        if (elapsedNanos < rampUpNanos) {
+            return Phase.RAMP_UP;
+        }
+        return elapsedNanos < rampUpNanos + steadyNanos ? Phase.STEADY : Phase.RAMP_DOWN;
+    }
+
+    /**
+     * Metode untuk mendapatkan target beban pada waktu tertentu
+     * @param elapsedNanos waktu sejak run dimulai
+     * @return jumlah pengguna atau journey per detik yang ditargetkan, 0 setelah run selesai
+     */
+    public double targetAt(long elapsedNanos) {
+        if (elapsedNanos >= getTotalNanos()) {
+            return 0;
+        }
+        switch (phaseAt(elapsedNanos)) {
+            case RAMP_UP:
+                return target * elapsedNanos / rampUpNanos;
+            case STEADY:
+                return target;
+            default:
+                return target * (getTotalNanos() - elapsedNanos) / rampDownNanos;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (openModel ? target + " journey/detik" : (int) target + " pengguna") + ", ramp-up "
+                + rampUpNanos / 1_000_000_000 + " detik, steady " + steadyNanos / 1_000_000_000
+                + " detik, ramp-down " + rampDownNanos / 1_000_000_000 + " detik";
+    }
+}
@@ -0,0 +1,323 @@
+package com.dicoding.test.load;
+
+import com.dicoding.test.base.DriverFactory;
+import com.dicoding.test.base.DriverPool;
+import com.dicoding.test.base.LocalBrowserFarm;
+import com.dicoding.test.base.RemoteNodes;
+import com.dicoding.test.metrics.StepMetrics;
+import com.dicoding.test.network.FixtureServer;
+import com.dicoding.test.network.FixtureStore;
+import com.dicoding.test.network.RequestFilter;
+import com.dicoding.test.utils.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LoadRunner menjalankan journey page object sebagai beban browser sungguhan selama durasi tertentu
+ * Model tertutup menjaga jumlah pengguna bersamaan (load.users); model terbuka menjadwalkan journey dengan
+ * laju tetap (load.rate) terlepas dari lambatnya website. Pada model terbuka, latensi dihitung dari jadwal
+ * kedatangan, sehingga waktu menunggu browser yang sibuk ikut terukur dan tidak tersembunyi
+ */
+public class LoadRunner {
+    private static final Logger logger = LogManager.getLogger(LoadRunner.class);
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    // Waktu tambahan bagi journey yang masih berjalan saat run selesai
+    private static final long DRAIN_SECONDS = 60;
+
+    private final DriverPool pool;
+    private final String baseUrl;
+    private final LoadProfile profile;
+    private final List<Journey> journeys;
+    private final int browsers;
+    private final LoadMetrics metrics = new LoadMetrics();
+    private long startNanos;
+
+    /**
+     * Konstruktor untuk LoadRunner
+     * @param pool pool sesi browser, ukurannya minimal sama dengan jumlah browser
+     * @param baseUrl URL halaman utama website yang diuji
+     * @param profile profil beban
+     * @param journeys journey yang dipilih acak sesuai bobotnya
+     * @param browsers jumlah maksimum browser bersamaan; pada model tertutup sama dengan target pengguna
+     */
+    public LoadRunner(DriverPool pool, String baseUrl, LoadProfile profile, List<Journey> journeys, int browsers) {
+        this.pool = pool;
+        this.baseUrl = baseUrl;
+        this.profile = profile;
+        this.journeys = journeys;
+        this.browsers = Math.max(1, browsers);
+    }
+
+    /**
+     * Metode untuk menjalankan run beban sampai semua fase selesai
+     * Semua browser disiapkan lebih dulu agar startup browser tidak tercatat sebagai latensi journey
+     * @return hasil run
+     */
+    public LoadMetrics run() throws InterruptedException {
+        warmUp();
+        logger.info("Run beban dimulai: {}, {} browser", profile, browsers);
+        startNanos = System.nanoTime();
+        if (profile.isOpenModel()) {
+            runOpen();
+        } else {
+            runClosed();
+        }
+        return metrics;
+    }
+
+    private void warmUp() {
+        List<WebDriver> drivers = new ArrayList<>();
+        try {
+            for (int i = 0; i < browsers; i++) {
+                drivers.add(pool.lease());
+            }
+        } finally {
+            drivers.forEach(pool::release);
+        }
+    }
+
+    /**
+     * Model tertutup: setiap pengguna menjalankan journey berulang selama nomornya berada di bawah target saat ini
+     */
+    private void runClosed() throws InterruptedException {
+        ExecutorService users = Executors.newFixedThreadPool(browsers, daemonThreads("load-user-"));
+        for (int i = 0; i < browsers; i++) {
+            int user = i;
+            users.execute(() -> {
+                long elapsed;
+                while ((elapsed = System.nanoTime() - startNanos) < profile.getTotalNanos()) {
+                    if (user < Math.round(profile.targetAt(elapsed))) {
+                        runJourney(pick(), System.nanoTime());
+                    } else if (!pause(100)) {
+                        return;
+                    }
+                }
+            });
+        }
+        users.shutdown();
+        awaitDrain(users);
+    }
+
+    /**
+     * Model terbuka: journey dijadwalkan dengan laju target; journey yang belum mendapat browser menunggu di antrean
+     */
+    private void runOpen() throws InterruptedException {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(browsers, browsers, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("load-worker-"));
+        double credit = 0;
+        long last = startNanos;
+        long now;
+        while ((now = System.nanoTime()) - startNanos < profile.getTotalNanos()) {
+            credit += profile.targetAt(now - startNanos) * (now - last) / 1e9;
+            last = now;
+            while (credit >= 1) {
+                credit--;
+                workers.execute(new Arrival(pick(), now));
+            }
+            if (!pause(10)) {
+                break;
+            }
+        }
+        List<Runnable> pending = new ArrayList<>();
+        workers.getQueue().drainTo(pending);
+        long end = System.nanoTime();
+        for (Runnable runnable : pending) {
+            Arrival arrival = (Arrival) runnable;
+            metrics.recordDropped(arrival.journey.getName(), profile.phaseAt(arrival.scheduledNanos - startNanos),
+                    end - arrival.scheduledNanos);
+        }
+        workers.shutdown();
+        awaitDrain(workers);
+    }
+
+    /**
+     * Satu kedatangan journey pada model terbuka; journey dipilih saat dijadwalkan agar kedatangan yang tidak sempat
+     * dijalankan tetap tercatat pada journey-nya
+     */
+    private class Arrival implements Runnable {
+        private final Journey journey;
+        private final long scheduledNanos;
+
+        private Arrival(Journey journey, long scheduledNanos) {
+            this.journey = journey;
+            this.scheduledNanos = scheduledNanos;
+        }
+
+        @Override
+        public void run() {
+            metrics.recordQueueDelay(System.nanoTime() - scheduledNanos);
+            runJourney(journey, scheduledNanos);
+        }
+    }
+
+    private void runJourney(Journey journey, long scheduledNanos) {
+        LoadProfile.Phase phase = profile.phaseAt(scheduledNanos - startNanos);
+        WebDriver driver = pool.lease();
+        JourneySession session = new JourneySession(journey.getName(), driver, new WebDriverWait(driver, TIMEOUT),
+                baseUrl, metrics);
+        boolean success = false;
+        try {
+            journey.getBody().run(session);
+            success = true;
+        } catch (Exception e) {
+            metrics.recordError(journey.getName(), session.getCurrentStep(), e);
+            logger.debug("Journey {} gagal di langkah {}", journey.getName(), session.getCurrentStep(), e);
+        } finally {
+            metrics.recordJourney(journey.getName(), phase, System.nanoTime() - scheduledNanos, success);
+            pool.release(driver);
+        }
+    }
+
+    private Journey pick() {
+        int total = 0;
+        for (Journey journey : journeys) {
+            total += journey.getWeight();
+        }
+        int choice = ThreadLocalRandom.current().nextInt(total);
+        for (Journey journey : journeys) {
+            choice -= journey.getWeight();
+            if (choice < 0) {
+                return journey;
+            }
+        }
+        return journeys.get(journeys.size() - 1);
+    }
+
+    private void awaitDrain(ExecutorService executor) throws InterruptedException {
+        if (!executor.awaitTermination(profile.getTotalNanos() / 1_000_000_000 + DRAIN_SECONDS, TimeUnit.SECONDS)) {
+            logger.warn("Sebagian journey masih berjalan setelah run beban selesai");
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean pause(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Metode untuk memeriksa apakah URL mengarah ke mesin ini atau jaringan lokal
+     */
+    private static boolean isLocal(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            if (host == null) {
+                return false;
+            }
+            InetAddress address = InetAddress.getByName(host);
+            return address.isLoopbackAddress() || address.isSiteLocalAddress();
+        } catch (IllegalArgumentException | UnknownHostException e) {
+            return false;
+        }
+    }
+
+    private static java.util.concurrent.ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Menjalankan run beban dari system property
+     * load.mode (users atau rate), load.users, load.rate, load.browsers, load.rampUp, load.steady, load.rampDown,
+     * load.journeys, serta base.url, fixture.mode, driver.remote, dan farm.nodes seperti pada suite TestNG.
+     * Secara default beban dikirim ke fixture server lokal (fixture.mode=replay); beban ke base.url yang bukan
+     * alamat lokal hanya dijalankan dengan -Dload.allowRemote=true
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        boolean openModel = "rate".equalsIgnoreCase(TestConfig.getString("load.mode", "users"));
+        int users = TestConfig.getInt("load.users", 4);
+        LoadProfile profile = new LoadProfile(openModel,
+                openModel ? Double.parseDouble(TestConfig.getString("load.rate", "1")) : users,
+                Duration.ofSeconds(TestConfig.getInt("load.rampUp", 30)),
+                Duration.ofSeconds(TestConfig.getInt("load.steady", 120)),
+                Duration.ofSeconds(TestConfig.getInt("load.rampDown", 30)));
+        int browsers = openModel ? TestConfig.getInt("load.browsers", 4) : users;
+        List<Journey> journeys = Journeys.parse(TestConfig.getString("load.journeys", "search:1,login:1"));
+
+        // Fixture server lokal menggantikan website asli, sehingga beban tidak dikirim ke produksi
+        String siteUrl = TestConfig.getString("base.url", TestConfig.DEFAULT_BASE_URL);
+        FixtureServer.Mode fixtureMode = FixtureServer.parseMode(TestConfig.getString("fixture.mode", "replay"));
+        // Mode off dan record meneruskan setiap journey ke base.url
+        if (fixtureMode != FixtureServer.Mode.REPLAY && !isLocal(siteUrl)
+                && !TestConfig.getBoolean("load.allowRemote", false)) {
+            throw new IllegalStateException("Run beban dengan fixture.mode="
+                    + fixtureMode.name().toLowerCase(Locale.ROOT) + " akan dikirim ke " + siteUrl
+                    + "; pakai fixture.mode=replay atau base.url lokal, atau atur -Dload.allowRemote=true");
+        }
+        FixtureServer fixtureServer = null;
+        String baseUrl = siteUrl;
+        if (fixtureMode != FixtureServer.Mode.OFF) {
+            fixtureServer = new FixtureServer(fixtureMode, siteUrl,
+                    new FixtureStore(Paths.get(TestConfig.getString("fixture.dir", "src/test/resources/fixtures"))),
+                    TestConfig.getInt("fixture.port", 0));
+            baseUrl = fixtureServer.getBaseUrl();
+        }
+        TestConfig.setBaseUrl(baseUrl);
+        boolean replay = fixtureMode == FixtureServer.Mode.REPLAY;
+        RequestFilter requestFilter = new RequestFilter(replay ? RequestFilter.Mode.BLOCK : RequestFilter.Mode.OFF,
+                "*", "", RequestFilter.DEFAULT_BLOCK_TYPES, Paths.get(".cache/request-filter-baseline.properties"));
+
+        DriverFactory factory = new DriverFactory(requestFilter, false);
+        String remoteUrl = TestConfig.getString("driver.remote", null);
+        int farmNodes = TestConfig.getInt("farm.nodes", 0);
+        LocalBrowserFarm farm = null;
+        if (remoteUrl != null) {
+            factory.setRemoteNodes(RemoteNodes.parse(remoteUrl));
+        } else if (farmNodes > 0) {
+            int farmSessions = TestConfig.getInt("farm.maxSessions", (browsers + farmNodes - 1) / farmNodes);
+            farm = new LocalBrowserFarm(farmNodes, TestConfig.getInt("farm.basePort", 0), farmSessions,
+                    Paths.get("test-output", "farm"));
+            farm.start();
+            factory.setRemoteNodes(new RemoteNodes(farm.getNodeUrls()));
+        }
+        DriverPool pool = new DriverPool(factory, baseUrl, browsers, TestConfig.getInt("pool.maxReuse", 10));
+        Path reportDir = Paths.get(TestConfig.getString("load.report", "test-output/load"));
+        try {
+            LoadMetrics metrics = new LoadRunner(pool, baseUrl, profile, journeys, browsers).run();
+            for (String line : metrics.summarize(profile)) {
+                logger.info(line);
+            }
+            metrics.exportJson(reportDir.resolve("load.json"), profile);
+            StepMetrics.exportJson(reportDir.resolve("steps.json"));
+            logger.info("Hasil run beban disimpan ke {}", reportDir);
+        } finally {
+            pool.shutdown();
+            if (farm != null) {
+                farm.close();
+            }
+            if (fixtureServer != null) {
+                fixtureServer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.dicoding.test.locators;
+
+import com.dicoding.test.utils.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocatorStats menyimpan statistik setiap cabang locator: jumlah percobaan, jumlah cocok, dan total durasi
+ * Statistik dibaca dari file lokal saat pertama dipakai dan disimpan kembali di akhir suite,
+ * sehingga urutan cabang yang dipelajari tetap berlaku di run berikutnya
+ */
+public class LocatorStats {
+    private static final Logger logger = LogManager.getLogger(LocatorStats.class);
+
+    private static final Path FILE = Paths.get(TestConfig.getString("locator.stats", ".cache/locator-stats.properties"));
+    private static final Map<String, Branch> branches = load(FILE);
+
+    private LocatorStats() {
+    }
+
+    /**
+     * Statistik satu cabang locator
+     */
+    public static class Branch {
+        private final AtomicLong attempts = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        void record(boolean hit, long nanos) {
+            attempts.incrementAndGet();
+            if (hit) {
+                hits.incrementAndGet();
+            }
+            totalNanos.addAndGet(nanos);
+        }
+
+        /**
+         * @return perkiraan peluang cabang ini cocok; cabang yang belum pernah dicoba bernilai 0.5
+         */
+        public double getHitRate() {
+            return (hits.get() + 1.0) / (attempts.get() + 2.0);
+        }
+
+        /**
+         * @return rata-rata durasi pencarian dalam milidetik
+         */
+        public double getMeanMillis() {
+            long n = attempts.get();
+            return n == 0 ? 0 : totalNanos.get() / 1_000_000.0 / n;
+        }
+
+        public long getAttempts() {
+            return attempts.get();
+        }
+
+        public long getHits() {
+            return hits.get();
+        }
+
+        @Override
+        public String toString() {
+            return "hit=" + hits.get() + "/" + attempts.get() + String.format(", rata-rata=%.1f ms", getMeanMillis());
+        }
+    }
+
+    /**
+     * Metode untuk mendapatkan statistik cabang
+     * @param key identitas cabang, yaitu locator cabang beserta locator asalnya
+     * @return statistik cabang
+     */
+    public static Branch get(String key) {
+        return branches.computeIfAbsent(key, k -> new Branch());
+    }
+
+    /**
+     * Metode untuk menyimpan statistik semua cabang ke file
+     */
+    public static void save() {
+        if (branches.isEmpty()) {
+            return;
+        }
+        try {
+            store(branches, FILE);
+            logger.info("Statistik locator disimpan ke {}", FILE);
+        } catch (IOException e) {
+            logger.warn("Gagal menyimpan statistik locator ke {}", FILE, e);
+        }
+    }
+
+    static void store(Map<String, Branch> stats, Path file) throws IOException {
+        Properties properties = new Properties();
+        stats.forEach((key, branch) -> properties.setProperty(key,
+                branch.attempts.get() + "," + branch.hits.get() + "," + branch.totalNanos.get()));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "Statistik cabang locator: percobaan,cocok,total nanodetik");
+        }
+    }
+
+    static Map<String, Branch> load(Path file) {
+        Map<String, Branch> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(file)) {
+            return loaded;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            logger.warn("Gagal membaca statistik locator dari {}", file, e);
+            return loaded;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            String[] values = properties.getProperty(key).split(",");
+            try {
+                Branch branch = new Branch();
+                branch.attempts.set(Long.parseLong(values[0]));
+                branch.hits.set(Long.parseLong(values[1]));
+                branch.totalNanos.set(Long.parseLong(values[2]));
+                loaded.put(key, branch);
+            } catch (RuntimeException e) {
+                logger.warn("Baris statistik locator tidak valid: {}", key);
+            }
+        }
+        return loaded;
+    }
+}
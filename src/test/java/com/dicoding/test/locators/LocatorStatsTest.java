@@ -0,0 +1,65 @@
+package com.dicoding.test.locators;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * LocatorStatsTest memeriksa bahwa statistik cabang yang disimpan ke file menghasilkan urutan cabang yang sama
+ * setelah dibaca kembali di run berikutnya
+ */
+public class LocatorStatsTest {
+    private static final String UNION = "//button[text()='Masuk'] | //a[text()='Masuk'] | //input[@type='submit']";
+
+    @Test(description = "Urutan cabang yang dipelajari tetap sama setelah statistik disimpan dan dibaca kembali")
+    public void testBranchOrderRoundTrip() throws IOException {
+        List<String> keys = OptimizedLocator.splitUnion(UNION).stream()
+                .map(branch -> branch + " @ " + UNION)
+                .collect(Collectors.toList());
+        Map<String, LocatorStats.Branch> stats = new LinkedHashMap<>();
+        stats.put(keys.get(0), branch(10, 2, 40_000_000));
+        stats.put(keys.get(1), branch(10, 8, 30_000_000));
+        // Cabang yang belum pernah dicoba tetap tersimpan dengan peluang awal 0.5
+        stats.put(keys.get(2), new LocatorStats.Branch());
+
+        Path file = Files.createTempFile("locator-stats", ".properties");
+        try {
+            LocatorStats.store(stats, file);
+            Map<String, LocatorStats.Branch> loaded = LocatorStats.load(file);
+
+            Assert.assertEquals(loaded.keySet(), stats.keySet(), "Kunci cabang berubah setelah dibaca kembali");
+            for (String key : keys) {
+                Assert.assertEquals(loaded.get(key).getAttempts(), stats.get(key).getAttempts(), "Percobaan " + key);
+                Assert.assertEquals(loaded.get(key).getHits(), stats.get(key).getHits(), "Cocok " + key);
+                Assert.assertEquals(loaded.get(key).getMeanMillis(), stats.get(key).getMeanMillis(), "Durasi " + key);
+            }
+            Assert.assertEquals(order(keys, loaded), Arrays.asList(keys.get(1), keys.get(2), keys.get(0)),
+                    "Urutan cabang setelah dibaca kembali salah");
+            Assert.assertEquals(order(keys, loaded), order(keys, stats), "Urutan cabang berubah setelah dibaca kembali");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static LocatorStats.Branch branch(int attempts, int hits, long totalNanos) {
+        LocatorStats.Branch branch = new LocatorStats.Branch();
+        for (int i = 0; i < attempts; i++) {
+            branch.record(i < hits, totalNanos / attempts);
+        }
+        return branch;
+    }
+
+    private static List<String> order(List<String> keys, Map<String, LocatorStats.Branch> stats) {
+        return keys.stream()
+                .sorted((a, b) -> OptimizedLocator.BRANCH_ORDER.compare(stats.get(a), stats.get(b)))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,163 @@
+package com.dicoding.test.locators;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * OptimizedLocator adalah locator XPath yang memecah union (a | b) menjadi cabang-cabang terpisah
+ * Cabang dicoba satu per satu sesuai peluang cocok yang dipelajari (lihat LocatorStats) dan pencarian berhenti
+ * di cabang pertama yang menemukan elemen. Cabang yang dapat diterjemahkan dengan aman dicari memakai CSS selector.
+ * Berbeda dengan union XPath, hasilnya hanya berisi elemen dari cabang pertama yang cocok
+ */
+public class OptimizedLocator extends By {
+    private static final Logger logger = LogManager.getLogger(OptimizedLocator.class);
+
+    // Urutan cabang: peluang cocok terbesar lebih dulu, lalu yang lebih cepat
+    static final Comparator<LocatorStats.Branch> BRANCH_ORDER = Comparator
+            .comparingDouble(LocatorStats.Branch::getHitRate).reversed()
+            .thenComparingDouble(LocatorStats.Branch::getMeanMillis);
+
+    private final String xpath;
+    private final List<BranchLocator> branches;
+
+    /**
+     * Satu cabang union beserta locator tercepat yang setara untuknya
+     */
+    private static class BranchLocator {
+        private final By xpathLocator;
+        private final By cssLocator;
+        private final LocatorStats.Branch stats;
+        private final int position;
+
+        private BranchLocator(String union, String branch, int position) {
+            this.xpathLocator = By.xpath(branch);
+            String css = XPathToCss.translate(branch);
+            this.cssLocator = css == null ? null : By.cssSelector(css);
+            this.stats = LocatorStats.get(branch + " @ " + union);
+            this.position = position;
+        }
+    }
+
+    private OptimizedLocator(String xpath) {
+        this.xpath = xpath;
+        List<BranchLocator> parsed = new ArrayList<>();
+        List<String> parts = splitUnion(xpath);
+        for (int i = 0; i < parts.size(); i++) {
+            parsed.add(new BranchLocator(xpath, parts.get(i), i));
+        }
+        this.branches = Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * Metode untuk membuat locator teroptimasi dari XPath
+     * Untuk union (a | b), findElements hanya mengembalikan elemen dari cabang pertama yang cocok, bukan gabungan
+     * semua cabang dalam urutan dokumen. Pakai By.xpath jika pemanggil membutuhkan semua elemen yang cocok
+     * @param xpath XPath, boleh berupa union beberapa XPath yang dipisah |
+     * @return locator teroptimasi
+     */
+    public static OptimizedLocator xpath(String xpath) {
+        return new OptimizedLocator(xpath);
+    }
+
+    /**
+     * @return XPath asli, dipakai saat locator harus dievaluasi utuh di browser (misalnya oleh LocatorScripts)
+     */
+    public String getXpath() {
+        return xpath;
+    }
+
+    /**
+     * Statistik hanya dicatat jika salah satu cabang cocok. Pencarian yang tidak menemukan apa pun biasanya berulang
+     * di dalam wait saat halaman masih dimuat, dan mencatatnya akan menghukum cabang yang akhirnya cocok
+     */
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        // CSS hanya setara dengan XPath absolut jika pencarian dimulai dari dokumen
+        boolean fromDocument = context instanceof WebDriver;
+        List<BranchLocator> missed = new ArrayList<>();
+        List<Long> missedNanos = new ArrayList<>();
+        for (BranchLocator branch : orderedBranches()) {
+            By locator = fromDocument && branch.cssLocator != null ? branch.cssLocator : branch.xpathLocator;
+            long start = System.nanoTime();
+            List<WebElement> elements = context.findElements(locator);
+            long nanos = System.nanoTime() - start;
+            if (!elements.isEmpty()) {
+                for (int i = 0; i < missed.size(); i++) {
+                    missed.get(i).stats.record(false, missedNanos.get(i));
+                }
+                branch.stats.record(true, nanos);
+                logger.debug("Cabang {} cocok untuk {} ({})", branch.position, xpath, locator);
+                return elements;
+            }
+            missed.add(branch);
+            missedNanos.add(nanos);
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public WebElement findElement(SearchContext context) {
+        List<WebElement> elements = findElements(context);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Tidak dapat menemukan elemen dengan " + this);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public String toString() {
+        return "By.optimizedXpath: " + xpath;
+    }
+
+    /**
+     * Urutan cabang sesuai BRANCH_ORDER, lalu urutan asli
+     */
+    private List<BranchLocator> orderedBranches() {
+        if (branches.size() == 1) {
+            return branches;
+        }
+        List<BranchLocator> ordered = new ArrayList<>(branches);
+        ordered.sort(Comparator.comparing((BranchLocator b) -> b.stats, BRANCH_ORDER)
+                .thenComparingInt(b -> b.position));
+        return ordered;
+    }
+
+    /**
+     * Metode untuk memecah union XPath di level teratas, tanda | di dalam kutip atau predikat diabaikan
+     */
+    static List<String> splitUnion(String xpath) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < xpath.length(); i++) {
+            char c = xpath.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                parts.add(xpath.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        parts.add(xpath.substring(start).trim());
+        return parts;
+    }
+}
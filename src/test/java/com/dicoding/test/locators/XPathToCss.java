@@ -0,0 +1,98 @@
+package com.dicoding.test.locators;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * XPathToCss menerjemahkan XPath sederhana menjadi CSS selector yang setara
+ * Hanya pola yang maknanya sama persis yang diterjemahkan: nama tag, sumbu // dan /, serta predikat atribut
+ * (@a='v', @a, contains(@a,'v'), starts-with(@a,'v')) yang digabung dengan and.
+ * XPath yang mencocokkan teks, posisi, atau memakai fungsi lain tidak diterjemahkan
+ */
+public class XPathToCss {
+    private static final Pattern STEP = Pattern.compile("(\\*|[a-zA-Z][\\w-]*)((?:\\[[^\\[\\]]*\\])*)");
+    private static final Pattern PREDICATE = Pattern.compile("\\[([^\\[\\]]*)\\]");
+    private static final Pattern EQUALS = Pattern.compile("@([a-zA-Z][\\w-]*)\\s*=\\s*'([^'\"\\\\]*)'");
+    private static final Pattern HAS_ATTRIBUTE = Pattern.compile("@([a-zA-Z][\\w-]*)");
+    private static final Pattern FUNCTION = Pattern.compile(
+            "(contains|starts-with)\\(\\s*@([a-zA-Z][\\w-]*)\\s*,\\s*'([^'\"\\\\]*)'\\s*\\)");
+
+    private XPathToCss() {
+    }
+
+    /**
+     * Metode untuk menerjemahkan XPath menjadi CSS selector
+     * @param xpath XPath absolut yang diawali //
+     * @return CSS selector yang setara, atau null jika XPath tidak dapat diterjemahkan dengan aman
+     */
+    public static String translate(String xpath) {
+        String remaining = xpath.trim();
+        if (!remaining.startsWith("//")) {
+            return null;
+        }
+        StringBuilder css = new StringBuilder();
+        while (!remaining.isEmpty()) {
+            String combinator;
+            if (remaining.startsWith("//")) {
+                combinator = " ";
+                remaining = remaining.substring(2);
+            } else if (remaining.startsWith("/")) {
+                combinator = " > ";
+                remaining = remaining.substring(1);
+            } else {
+                return null;
+            }
+
+            Matcher step = STEP.matcher(remaining);
+            if (!step.lookingAt()) {
+                return null;
+            }
+            String predicates = translatePredicates(step.group(2));
+            if (predicates == null) {
+                return null;
+            }
+            if (css.length() > 0) {
+                css.append(combinator);
+            }
+            css.append(step.group(1)).append(predicates);
+            remaining = remaining.substring(step.end());
+        }
+        return css.toString();
+    }
+
+    private static String translatePredicates(String predicates) {
+        StringBuilder css = new StringBuilder();
+        Matcher predicate = PREDICATE.matcher(predicates);
+        while (predicate.find()) {
+            for (String condition : predicate.group(1).split("\\s+and\\s+")) {
+                String attribute = translateCondition(condition.trim());
+                if (attribute == null) {
+                    return null;
+                }
+                css.append(attribute);
+            }
+        }
+        return css.toString();
+    }
+
+    private static String translateCondition(String condition) {
+        Matcher equals = EQUALS.matcher(condition);
+        if (equals.matches()) {
+            return "[" + equals.group(1) + "='" + equals.group(2) + "']";
+        }
+        Matcher function = FUNCTION.matcher(condition);
+        if (function.matches()) {
+            String operator = "contains".equals(function.group(1)) ? "*=" : "^=";
+            // contains(@a, '') selalu benar di XPath, sedangkan [a*=''] tidak pernah cocok di CSS
+            if (function.group(3).isEmpty()) {
+                return null;
+            }
+            return "[" + function.group(2) + operator + "'" + function.group(3) + "']";
+        }
+        Matcher hasAttribute = HAS_ATTRIBUTE.matcher(condition);
+        if (hasAttribute.matches()) {
+            return "[" + hasAttribute.group(1) + "]";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.dicoding.test.locators;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * XPathToCssTest memeriksa XPath yang diterjemahkan dan yang ditolak XPathToCss, serta pemecahan union
+ * oleh OptimizedLocator. Test ini tidak membutuhkan browser
+ */
+public class XPathToCssTest {
+
+    @DataProvider(name = "translatable")
+    public Object[][] translatable() {
+        return new Object[][] {
+                {"//input[@placeholder='Email']", "input[placeholder='Email']"},
+                {"//input[@placeholder='Apa yang ingin Anda pelajari?']",
+                        "input[placeholder='Apa yang ingin Anda pelajari?']"},
+                {"//img[contains(@alt, 'Dicoding')]", "img[alt*='Dicoding']"},
+                {"//a[starts-with(@href, '/academies')]", "a[href^='/academies']"},
+                {"//button[@type='submit' and @disabled]", "button[type='submit'][disabled]"},
+                {"//a/img[@alt='Dicoding Indonesia']", "a > img[alt='Dicoding Indonesia']"},
+                {"//div[contains(@class, 'modal')]//input[@name='email']",
+                        "div[class*='modal'] input[name='email']"},
+                {"//*[@id='cards']", "*[id='cards']"},
+        };
+    }
+
+    @DataProvider(name = "untranslatable")
+    public Object[][] untranslatable() {
+        return new Object[][] {
+                {"//a[text()='Masuk']"},
+                {"//h2[contains(text(), 'Learning Path')]"},
+                {"//*[contains(text(), 'Telah dipercaya')]"},
+                {"//a[.='Masuk']"},
+                {"//label/.."},
+                {"//h3/following-sibling::form"},
+                {"//div[@class='card'][2]"},
+                {"//li[last()]"},
+                {"(//a)[1]"},
+                {"a[@id='login']"},
+                {"//a[@title=\"Masuk\"]"},
+                {"//img[contains(@alt, '')]"},
+                {"//a[@id='a' or @id='b']"},
+        };
+    }
+
+    @DataProvider(name = "unions")
+    public Object[][] unions() {
+        return new Object[][] {
+                {"//a[text()='Learning Path']", Arrays.asList("//a[text()='Learning Path']")},
+                {"//h2[contains(text(), 'Learning Path')] | //a[text()='Learning Path']",
+                        Arrays.asList("//h2[contains(text(), 'Learning Path')]", "//a[text()='Learning Path']")},
+                {"//a[@title='a | b']|//b", Arrays.asList("//a[@title='a | b']", "//b")},
+                {"//a[contains(@href, '|')]", Arrays.asList("//a[contains(@href, '|')]")},
+                {"//a[text()=\"x|y\"] | //b[@id='c'] | //c",
+                        Arrays.asList("//a[text()=\"x|y\"]", "//b[@id='c']", "//c")},
+        };
+    }
+
+    @Test(dataProvider = "translatable", description = "XPath berbasis atribut diterjemahkan menjadi CSS yang setara")
+    public void testTranslates(String xpath, String css) {
+        Assert.assertEquals(XPathToCss.translate(xpath), css, "Terjemahan CSS salah untuk " + xpath);
+    }
+
+    @Test(dataProvider = "untranslatable", description = "XPath berbasis teks, posisi, atau sumbu lain ditolak")
+    public void testRejects(String xpath) {
+        Assert.assertNull(XPathToCss.translate(xpath), "XPath seharusnya tidak diterjemahkan: " + xpath);
+    }
+
+    @Test(dataProvider = "unions", description = "Union dipecah hanya pada | di level teratas")
+    public void testSplitUnion(String xpath, List<String> branches) {
+        Assert.assertEquals(OptimizedLocator.splitUnion(xpath), branches, "Cabang union salah untuk " + xpath);
+    }
+}
@@ -0,0 +1,142 @@
+package com.dicoding.test.logging;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestBufferAppender menyimpan log setiap test di memori, dikelompokkan berdasarkan testId di ThreadContext
+ * Saat test selesai, TestLogContext mengirim event penutup: log test yang gagal ditulis ke file,
+ * sedangkan log test yang berhasil dibuang. Event penutup melewati antrean logger yang sama dengan log test,
+ * sehingga semua log test sudah diterima appender ketika event tersebut diproses
+ */
+@Plugin(name = "TestBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public final class TestBufferAppender extends AbstractAppender {
+    private final int maxEvents;
+    private final Path directory;
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * Log satu test, dibatasi maxEvents; baris tertua dibuang lebih dulu
+     */
+    private static class Buffer {
+        private final ArrayDeque<byte[]> lines = new ArrayDeque<>();
+        private long dropped;
+    }
+
+    private TestBufferAppender(String name, Filter filter, Layout<? extends Serializable> layout,
+                               int maxEvents, Path directory) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+        this.maxEvents = maxEvents;
+        this.directory = directory;
+    }
+
+    /**
+     * Factory yang dipanggil Log4j saat membaca konfigurasi
+     */
+    @PluginFactory
+    public static TestBufferAppender createAppender(
+            @PluginAttribute("name") String name,
+            @PluginAttribute(value = "maxEvents", defaultInt = 5000) int maxEvents,
+            @PluginAttribute(value = "directory", defaultString = "test-output/logs") String directory,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("Filter") Filter filter) {
+        if (name == null) {
+            LOGGER.error("Atribut name wajib diisi untuk TestBuffer");
+            return null;
+        }
+        if (layout == null) {
+            layout = PatternLayout.createDefaultLayout();
+        }
+        return new TestBufferAppender(name, filter, layout, Math.max(1, maxEvents), Paths.get(directory));
+    }
+
+    /**
+     * Metode untuk mendapatkan lokasi file log sebuah test
+     * @param testId identitas test dari TestLogContext
+     * @return path file log test
+     */
+    public Path getFile(String testId) {
+        return directory.resolve(testId + ".log");
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        String testId = event.getContextData().getValue(TestLogContext.TEST_ID);
+        if (testId == null) {
+            return;
+        }
+        Marker marker = event.getMarker();
+        if (marker != null && marker.isInstanceOf(TestLogContext.DISCARD)) {
+            buffers.remove(testId);
+            return;
+        }
+
+        Buffer buffer = buffers.computeIfAbsent(testId, id -> new Buffer());
+        synchronized (buffer) {
+            if (buffer.lines.size() >= maxEvents) {
+                buffer.lines.removeFirst();
+                buffer.dropped++;
+            }
+            buffer.lines.addLast(getLayout().toByteArray(event));
+        }
+
+        if (marker != null && marker.isInstanceOf(TestLogContext.KEEP)) {
+            buffers.remove(testId);
+            write(testId, buffer);
+        }
+    }
+
+    private void write(String testId, Buffer buffer) {
+        Path file = getFile(testId);
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                synchronized (buffer) {
+                    if (buffer.dropped > 0) {
+                        out.write(("... " + buffer.dropped + " baris awal dibuang (maxEvents=" + maxEvents + ")"
+                                + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+                    }
+                    for (byte[] line : buffer.lines) {
+                        out.write(line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            error("Gagal menulis log test ke " + file, e);
+        }
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        if (!buffers.isEmpty()) {
+            LOGGER.warn("{} buffer log test belum ditutup saat appender {} berhenti", buffers.size(), getName());
+            buffers.clear();
+        }
+        setStopped();
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package com.dicoding.test.logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TestLogContext mengisi ThreadContext dengan nama test dan session id selama test berjalan,
+ * sehingga setiap baris log dapat ditelusuri ke test asalnya meskipun test dijalankan paralel
+ * Saat test selesai, kelas ini memberi tahu TestBufferAppender apakah log test perlu disimpan
+ */
+public final class TestLogContext {
+    private static final Logger logger = LogManager.getLogger(TestLogContext.class);
+
+    public static final String TEST_ID = "testId";
+    public static final String TEST = "test";
+    public static final String SESSION = "session";
+
+    // Event bertanda TEST_LOG selalu diterima, apa pun level logger-nya (lihat log4j2.xml)
+    static final Marker TEST_LOG = MarkerManager.getMarker("TEST_LOG");
+    static final Marker KEEP = MarkerManager.getMarker("TEST_LOG_KEEP").setParents(TEST_LOG);
+    static final Marker DISCARD = MarkerManager.getMarker("TEST_LOG_DISCARD").setParents(TEST_LOG);
+
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private TestLogContext() {
+    }
+
+    /**
+     * Metode untuk menandai awal test pada thread yang sedang berjalan
+     * @param testName nama test
+     * @return identitas unik test, juga dipakai sebagai nama file log
+     */
+    public static String start(String testName) {
+        // Test sebelumnya di thread ini tidak sempat ditutup, misalnya karena setup gagal
+        if (ThreadContext.containsKey(TEST_ID)) {
+            finish(false);
+        }
+        String testId = testName.replaceAll("[^A-Za-z0-9_.-]", "_") + "-" + sequence.incrementAndGet();
+        ThreadContext.put(TEST_ID, testId);
+        ThreadContext.put(TEST, testName);
+        return testId;
+    }
+
+    /**
+     * Metode untuk mencatat session id WebDriver yang dipakai test
+     * @param sessionId session id WebDriver
+     */
+    public static void setSession(String sessionId) {
+        ThreadContext.put(SESSION, sessionId);
+    }
+
+    /**
+     * Metode untuk menandai akhir test lalu mengosongkan ThreadContext
+     * @param failed true jika log test perlu disimpan
+     * @return path file log test yang disimpan, atau null jika log dibuang atau appender TestBuffer tidak dipakai
+     */
+    public static Path finish(boolean failed) {
+        String testId = ThreadContext.get(TEST_ID);
+        if (testId == null) {
+            return null;
+        }
+        Path file = null;
+        if (failed) {
+            TestBufferAppender appender = findAppender();
+            file = appender != null ? appender.getFile(testId) : null;
+            logger.info(KEEP, "Log lengkap test {} disimpan ke {}", testId, file);
+        } else {
+            logger.debug(DISCARD, "Log test {} dibuang", testId);
+        }
+        ThreadContext.clearMap();
+        return file;
+    }
+
+    private static TestBufferAppender findAppender() {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        for (Appender appender : context.getConfiguration().getAppenders().values()) {
+            if (appender instanceof TestBufferAppender) {
+                return (TestBufferAppender) appender;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,133 @@
+package com.dicoding.test.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram menyimpan distribusi durasi dalam bucket log-linear tanpa lock
+ * Setiap kelipatan dua dibagi menjadi 16 bucket, sehingga kesalahan relatif persentil paling besar sekitar 6%
+ * Nilai disimpan dalam mikrodetik, rentang 1 mikrodetik sampai ratusan tahun
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Metode untuk mencatat satu durasi
+     * @param nanos durasi dalam nanodetik
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        buckets.incrementAndGet(indexOf(micros));
+        count.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        minMicros.accumulateAndGet(micros, Math::min);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Metode untuk menambahkan isi histogram lain ke histogram ini
+     * @param other histogram sumber
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long value = other.buckets.get(i);
+            if (value > 0) {
+                buckets.addAndGet(i, value);
+            }
+        }
+        count.addAndGet(other.count.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        minMicros.accumulateAndGet(other.minMicros.get(), Math::min);
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return total durasi dalam milidetik
+     */
+    public double getTotalMillis() {
+        return totalMicros.get() / 1000.0;
+    }
+
+    /**
+     * @return rata-rata durasi dalam milidetik
+     */
+    public double getMeanMillis() {
+        long n = count.get();
+        return n == 0 ? 0 : totalMicros.get() / 1000.0 / n;
+    }
+
+    /**
+     * @return durasi terkecil dalam milidetik
+     */
+    public double getMinMillis() {
+        return count.get() == 0 ? 0 : minMicros.get() / 1000.0;
+    }
+
+    /**
+     * @return durasi terbesar dalam milidetik
+     */
+    public double getMaxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Metode untuk mendapatkan persentil durasi
+     * @param percentile persentil antara 0 dan 100, misalnya 95
+     * @return perkiraan durasi pada persentil tersebut dalam milidetik
+     */
+    public double getPercentileMillis(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                // Titik tengah bucket, dibatasi nilai minimum dan maksimum yang benar-benar tercatat
+                long middle = (lowerBound(i) + upperBound(i)) / 2;
+                return Math.min(Math.max(middle, minMicros.get()), maxMicros.get()) / 1000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BUCKET_BITS;
+        long top = micros >>> shift;
+        return (shift + 1) * SUB_BUCKETS + (int) (top - SUB_BUCKETS);
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return ((long) (SUB_BUCKETS + index % SUB_BUCKETS + 1) << shift) - 1;
+    }
+}
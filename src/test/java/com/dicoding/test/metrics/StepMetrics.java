@@ -0,0 +1,251 @@
+package com.dicoding.test.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StepMetrics mengumpulkan durasi setiap aksi page object (klik, isi teks, tunggu halaman, dan sebagainya)
+ * Durasi diukur dengan System.nanoTime dan disimpan per halaman, aksi, dan locator,
+ * baik untuk seluruh suite maupun untuk test yang sedang berjalan di thread tersebut
+ */
+public class StepMetrics {
+    private static final Logger logger = LogManager.getLogger(StepMetrics.class);
+
+    private static final double[] QUANTILES = {50, 95, 99};
+
+    private static final Map<Step, LatencyHistogram> suiteSteps = new ConcurrentHashMap<>();
+    // Histogram per test, hanya terisi di antara startTest dan finishTest
+    private static final ThreadLocal<Map<Step, LatencyHistogram>> testSteps = new ThreadLocal<>();
+
+    private StepMetrics() {
+    }
+
+    /**
+     * Identitas satu langkah: kelas halaman, nama aksi, dan locator
+     */
+    public static final class Step {
+        private final String page;
+        private final String action;
+        private final String locator;
+
+        Step(String page, String action, String locator) {
+            this.page = page;
+            this.action = action;
+            this.locator = locator;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Step)) {
+                return false;
+            }
+            Step step = (Step) o;
+            return page.equals(step.page) && action.equals(step.action) && locator.equals(step.locator);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(page, action, locator);
+        }
+
+        @Override
+        public String toString() {
+            return page + "." + action + (locator.isEmpty() ? "" : " [" + locator + "]");
+        }
+    }
+
+    /**
+     * Metode untuk mencatat durasi satu langkah
+     * @param page objek halaman yang menjalankan aksi
+     * @param action nama aksi, misalnya click
+     * @param locator locator elemen, atau null jika aksi tidak terkait elemen
+     * @param startNanos nilai System.nanoTime() saat aksi dimulai
+     */
+    public static void record(Object page, String action, Object locator, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        Step step = new Step(page.getClass().getSimpleName(), action, locator == null ? "" : locator.toString());
+        suiteSteps.computeIfAbsent(step, s -> new LatencyHistogram()).record(elapsed);
+        Map<Step, LatencyHistogram> steps = testSteps.get();
+        if (steps != null) {
+            steps.computeIfAbsent(step, s -> new LatencyHistogram()).record(elapsed);
+        }
+    }
+
+    /**
+     * Metode untuk mulai mengumpulkan durasi untuk test di thread ini
+     */
+    public static void startTest() {
+        testSteps.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Metode untuk mengakhiri pengumpulan durasi untuk test di thread ini
+     * @return histogram setiap langkah selama test, diurutkan dari total durasi terbesar
+     */
+    public static Map<Step, LatencyHistogram> finishTest() {
+        Map<Step, LatencyHistogram> steps = testSteps.get();
+        testSteps.remove();
+        return steps == null ? new LinkedHashMap<>() : sortByTotal(steps);
+    }
+
+    /**
+     * Metode untuk membuat tabel ringkasan langkah, dipakai untuk node test di Extent Report
+     * @param steps histogram setiap langkah
+     * @return baris tabel dengan header di baris pertama
+     */
+    public static String[][] toTable(Map<Step, LatencyHistogram> steps) {
+        String[][] table = new String[steps.size() + 1][];
+        table[0] = new String[] {"Halaman", "Aksi", "Locator", "Jumlah", "Total (ms)", "Maks (ms)"};
+        int row = 1;
+        for (Map.Entry<Step, LatencyHistogram> entry : steps.entrySet()) {
+            Step step = entry.getKey();
+            LatencyHistogram histogram = entry.getValue();
+            table[row++] = new String[] {step.getPage(), step.getAction(), step.getLocator(),
+                    String.valueOf(histogram.getCount()), format(histogram.getTotalMillis()),
+                    format(histogram.getMaxMillis())};
+        }
+        return table;
+    }
+
+    /**
+     * Metode untuk menulis durasi seluruh suite dalam format JSON
+     * @param file file tujuan
+     * @throws IOException jika file tidak dapat ditulis
+     */
+    public static void exportJson(Path file) throws IOException {
+        List<Object> steps = new ArrayList<>();
+        sortByTotal(suiteSteps).forEach((step, histogram) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("page", step.getPage());
+            row.put("action", step.getAction());
+            row.put("locator", step.getLocator());
+            row.putAll(summary(histogram));
+            steps.add(row);
+        });
+        List<Object> actions = new ArrayList<>();
+        byAction().forEach((action, histogram) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("action", action);
+            row.putAll(summary(histogram));
+            actions.add(row);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("actions", actions);
+        report.put("steps", steps);
+        write(file, new Json().toJson(report));
+        logger.info("Metrik langkah disimpan ke {}", file);
+    }
+
+    /**
+     * Metode untuk menulis durasi seluruh suite dalam format teks Prometheus
+     * @param file file tujuan
+     * @throws IOException jika file tidak dapat ditulis
+     */
+    public static void exportPrometheus(Path file) throws IOException {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP page_action_duration_seconds Durasi aksi page object per jenis aksi\n");
+        out.append("# TYPE page_action_duration_seconds summary\n");
+        byAction().forEach((action, histogram) ->
+                appendSummary(out, "page_action_duration_seconds", "action=\"" + escape(action) + "\"", histogram));
+
+        out.append("# HELP page_step_duration_seconds Durasi aksi page object per halaman, aksi, dan locator\n");
+        out.append("# TYPE page_step_duration_seconds summary\n");
+        sortByTotal(suiteSteps).forEach((step, histogram) -> appendSummary(out, "page_step_duration_seconds",
+                "page=\"" + escape(step.getPage()) + "\",action=\"" + escape(step.getAction())
+                        + "\",locator=\"" + escape(step.getLocator()) + "\"",
+                histogram));
+        write(file, out.toString());
+        logger.info("Metrik langkah (Prometheus) disimpan ke {}", file);
+    }
+
+    private static void appendSummary(StringBuilder out, String name, String labels, LatencyHistogram histogram) {
+        for (double quantile : QUANTILES) {
+            out.append(name).append('{').append(labels).append(",quantile=\"").append(quantile / 100).append("\"} ")
+                    .append(seconds(histogram.getPercentileMillis(quantile))).append('\n');
+        }
+        out.append(name).append("_sum{").append(labels).append("} ")
+                .append(seconds(histogram.getTotalMillis())).append('\n');
+        out.append(name).append("_count{").append(labels).append("} ").append(histogram.getCount()).append('\n');
+    }
+
+    private static Map<String, Object> summary(LatencyHistogram histogram) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("count", histogram.getCount());
+        row.put("totalMs", round(histogram.getTotalMillis()));
+        row.put("meanMs", round(histogram.getMeanMillis()));
+        row.put("minMs", round(histogram.getMinMillis()));
+        row.put("maxMs", round(histogram.getMaxMillis()));
+        for (double quantile : QUANTILES) {
+            row.put("p" + (int) quantile + "Ms", round(histogram.getPercentileMillis(quantile)));
+        }
+        return row;
+    }
+
+    private static Map<String, LatencyHistogram> byAction() {
+        Map<String, LatencyHistogram> actions = new TreeMap<>();
+        suiteSteps.forEach((step, histogram) ->
+                actions.computeIfAbsent(step.getAction(), a -> new LatencyHistogram()).merge(histogram));
+        return actions;
+    }
+
+    private static Map<Step, LatencyHistogram> sortByTotal(Map<Step, LatencyHistogram> steps) {
+        Map<Step, LatencyHistogram> sorted = new LinkedHashMap<>();
+        steps.entrySet().stream()
+                .sorted(Comparator.comparingDouble(
+                        (Map.Entry<Step, LatencyHistogram> entry) -> entry.getValue().getTotalMillis()).reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String seconds(double millis) {
+        return String.format(Locale.ROOT, "%.6f", millis / 1000.0);
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
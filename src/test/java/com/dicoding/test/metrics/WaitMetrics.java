@@ -0,0 +1,213 @@
+package com.dicoding.test.metrics;
+
+import com.dicoding.test.utils.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WaitMetrics mencatat telemetri setiap wait: jumlah poll dan waktu sampai kondisi terpenuhi, per locator
+ * Rata-rata bergerak waktu terpenuhi dipakai AdaptiveWait sebagai penundaan awal sebelum poll pertama.
+ * Rata-rata tersebut disimpan di akhir suite sehingga tetap berlaku di run berikutnya
+ */
+public class WaitMetrics {
+    private static final Logger logger = LogManager.getLogger(WaitMetrics.class);
+
+    private static final Path FILE = Paths.get(TestConfig.getString("wait.stats", ".cache/wait-stats.properties"));
+    // Bobot sampel terbaru pada rata-rata bergerak waktu terpenuhi
+    private static final double SMOOTHING = 0.3;
+
+    private static final Map<String, Wait> waits = load();
+
+    private WaitMetrics() {
+    }
+
+    /**
+     * Telemetri satu jenis wait, misalnya visible untuk satu locator
+     */
+    public static class Wait {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong polls = new AtomicLong();
+        private final LatencyHistogram satisfied = new LatencyHistogram();
+        // Rata-rata bergerak waktu terpenuhi dalam milidetik, -1 jika belum ada sampel
+        private double learnedMillis = -1;
+
+        /**
+         * Metode untuk mencatat wait yang kondisinya terpenuhi
+         * @param pollCount jumlah poll yang dijalankan
+         * @param elapsedNanos waktu sejak wait dimulai sampai kondisi terpenuhi
+         * @param delayNanos penundaan awal yang dipakai wait ini
+         */
+        public void recordSatisfied(int pollCount, long elapsedNanos, long delayNanos) {
+            calls.incrementAndGet();
+            polls.addAndGet(pollCount);
+            satisfied.record(elapsedNanos);
+            // Terpenuhi di poll pertama setelah penundaan berarti kondisi sudah terpenuhi lebih awal;
+            // titik tengah penundaan dipakai agar penundaan yang terlalu panjang mengecil kembali
+            long sample = pollCount == 1 && delayNanos > 0 ? delayNanos / 2 : elapsedNanos;
+            synchronized (this) {
+                double millis = sample / 1e6;
+                learnedMillis = learnedMillis < 0 ? millis : SMOOTHING * millis + (1 - SMOOTHING) * learnedMillis;
+            }
+        }
+
+        /**
+         * Metode untuk mencatat wait yang timeout
+         * @param pollCount jumlah poll yang dijalankan
+         */
+        public void recordTimeout(int pollCount) {
+            calls.incrementAndGet();
+            timeouts.incrementAndGet();
+            polls.addAndGet(pollCount);
+        }
+
+        /**
+         * @return rata-rata bergerak waktu sampai kondisi terpenuhi dalam milidetik, 0 jika belum ada sampel
+         */
+        public synchronized double getLearnedMillis() {
+            return Math.max(0, learnedMillis);
+        }
+
+        public long getCalls() {
+            return calls.get();
+        }
+
+        public long getTimeouts() {
+            return timeouts.get();
+        }
+
+        public long getPolls() {
+            return polls.get();
+        }
+
+        public LatencyHistogram getSatisfied() {
+            return satisfied;
+        }
+    }
+
+    /**
+     * Metode untuk mendapatkan telemetri wait
+     * @param key identitas wait, yaitu jenis kondisi beserta locator
+     * @return telemetri wait
+     */
+    public static Wait get(String key) {
+        return waits.computeIfAbsent(key, k -> new Wait());
+    }
+
+    /**
+     * Metode untuk mendapatkan ringkasan telemetri semua wait
+     * @return jumlah wait, rata-rata poll per wait, jumlah timeout, dan persentil waktu terpenuhi
+     */
+    public static String getStatistics() {
+        long calls = 0;
+        long polls = 0;
+        long timeouts = 0;
+        LatencyHistogram satisfied = new LatencyHistogram();
+        for (Wait wait : waits.values()) {
+            calls += wait.calls.get();
+            polls += wait.polls.get();
+            timeouts += wait.timeouts.get();
+            satisfied.merge(wait.satisfied);
+        }
+        return String.format("wait=%d, poll per wait=%.1f, timeout=%d, terpenuhi p50=%.0f ms p95=%.0f ms",
+                calls, calls == 0 ? 0.0 : (double) polls / calls, timeouts,
+                satisfied.getPercentileMillis(50), satisfied.getPercentileMillis(95));
+    }
+
+    /**
+     * Metode untuk menulis telemetri setiap wait dalam format JSON
+     * @param file file tujuan
+     * @throws IOException jika file tidak dapat ditulis
+     */
+    public static void exportJson(Path file) throws IOException {
+        List<Object> rows = new ArrayList<>();
+        new TreeMap<>(waits).forEach((key, wait) -> {
+            if (wait.calls.get() == 0) {
+                return;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("wait", key);
+            row.put("calls", wait.calls.get());
+            row.put("timeouts", wait.timeouts.get());
+            row.put("polls", wait.polls.get());
+            row.put("pollsPerCall", round((double) wait.polls.get() / wait.calls.get()));
+            row.put("learnedDelayMs", round(wait.getLearnedMillis()));
+            row.put("satisfiedP50Ms", round(wait.satisfied.getPercentileMillis(50)));
+            row.put("satisfiedP95Ms", round(wait.satisfied.getPercentileMillis(95)));
+            row.put("satisfiedMaxMs", round(wait.satisfied.getMaxMillis()));
+            rows.add(row);
+        });
+        Files.createDirectories(file.getParent());
+        Files.write(file, new Json().toJson(rows).getBytes(StandardCharsets.UTF_8));
+        logger.info("Metrik wait disimpan ke {}", file);
+    }
+
+    /**
+     * Metode untuk menyimpan waktu terpenuhi yang dipelajari ke file
+     */
+    public static void save() {
+        Properties properties = new Properties();
+        waits.forEach((key, wait) -> {
+            if (wait.learnedMillis >= 0) {
+                properties.setProperty(key, String.valueOf(round(wait.getLearnedMillis())));
+            }
+        });
+        if (properties.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(FILE.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(FILE)) {
+                properties.store(out, "Rata-rata waktu terpenuhi setiap wait dalam milidetik");
+            }
+            logger.info("Statistik wait disimpan ke {}", FILE);
+        } catch (IOException e) {
+            logger.warn("Gagal menyimpan statistik wait ke {}", FILE, e);
+        }
+    }
+
+    private static Map<String, Wait> load() {
+        Map<String, Wait> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(FILE)) {
+            return loaded;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(FILE)) {
+            properties.load(in);
+        } catch (IOException e) {
+            logger.warn("Gagal membaca statistik wait dari {}", FILE, e);
+            return loaded;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                Wait wait = new Wait();
+                wait.learnedMillis = Double.parseDouble(properties.getProperty(key));
+                loaded.put(key, wait);
+            } catch (NumberFormatException e) {
+                logger.warn("Baris statistik wait tidak valid: {}", key);
+            }
+        }
+        return loaded;
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,231 @@
+package com.dicoding.test.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * FilteringProxy adalah proxy HTTP lokal untuk satu sesi browser
+ * Koneksi ke host yang diblokir langsung ditolak, koneksi lain diteruskan apa adanya
+ * (HTTPS melalui CONNECT tunnel) sambil menghitung byte yang diterima
+ */
+public class FilteringProxy implements Closeable {
+    private static final Logger logger = LogManager.getLogger(FilteringProxy.class);
+
+    private static final int CONNECT_TIMEOUT = 10_000; // dalam milidetik
+    private static final int MAX_HEADER_SIZE = 64 * 1024;
+
+    private final Predicate<String> blockedHost;
+    private final TrafficBaseline baseline;
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+
+    // Counter per test, di-reset setiap kali sesi dipinjam oleh test baru
+    private final AtomicInteger blockedRequests = new AtomicInteger();
+    private final AtomicInteger allowedRequests = new AtomicInteger();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * Konstruktor untuk FilteringProxy, proxy langsung mendengarkan di port acak pada localhost
+     * @param blockedHost predikat yang menentukan apakah host harus diblokir
+     * @param baseline baseline trafik untuk mencatat dan memperkirakan ukuran koneksi
+     * @throws IOException jika port tidak dapat dibuka
+     */
+    public FilteringProxy(Predicate<String> blockedHost, TrafficBaseline baseline) throws IOException {
+        this.blockedHost = blockedHost;
+        this.baseline = baseline;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "filtering-proxy-" + serverSocket.getLocalPort());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::acceptLoop);
+        logger.info("Proxy filter berjalan di port {}", getPort());
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Metode untuk me-reset counter per test
+     */
+    public void resetCounters() {
+        blockedRequests.set(0);
+        allowedRequests.set(0);
+        bytesReceived.set(0);
+        bytesSaved.set(0);
+    }
+
+    /**
+     * Metode untuk mendapatkan ringkasan trafik sejak counter terakhir di-reset
+     * @return ringkasan jumlah koneksi yang diblokir/diteruskan dan byte yang diterima/dihemat
+     */
+    public String getSummary() {
+        return "diblokir=" + blockedRequests.get() + ", diteruskan=" + allowedRequests.get()
+                + ", diterima=" + bytesReceived.get() / 1024 + " KB"
+                + ", perkiraan hemat=" + bytesSaved.get() / 1024 + " KB";
+    }
+
+    public int getBlockedRequests() {
+        return blockedRequests.get();
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warn("Gagal menutup proxy filter", e);
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                executor.execute(() -> handle(client));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warn("Gagal menerima koneksi proxy", e);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket client) {
+        try (Socket clientSocket = client) {
+            byte[] head = readHead(clientSocket.getInputStream());
+            if (head == null) {
+                return;
+            }
+            String headText = new String(head, StandardCharsets.ISO_8859_1);
+            String[] requestLine = headText.substring(0, headText.indexOf("\r\n")).split(" ");
+            boolean connect = "CONNECT".equalsIgnoreCase(requestLine[0]);
+            String host;
+            int port;
+            if (connect) {
+                int separator = requestLine[1].lastIndexOf(':');
+                host = requestLine[1].substring(0, separator);
+                port = Integer.parseInt(requestLine[1].substring(separator + 1));
+            } else {
+                URI uri = URI.create(requestLine[1]);
+                host = uri.getHost();
+                port = uri.getPort() > 0 ? uri.getPort() : 80;
+            }
+
+            if (blockedHost.test(host)) {
+                blockedRequests.incrementAndGet();
+                bytesSaved.addAndGet(baseline.averageBytes(host));
+                clientSocket.getOutputStream().write(
+                        "HTTP/1.1 403 Forbidden\r\nContent-Length: 0\r\nConnection: close\r\n\r\n"
+                                .getBytes(StandardCharsets.ISO_8859_1));
+                logger.debug("Koneksi ke {} diblokir", host);
+                return;
+            }
+
+            allowedRequests.incrementAndGet();
+            try (Socket upstream = new Socket()) {
+                upstream.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT);
+                if (connect) {
+                    clientSocket.getOutputStream().write(
+                            "HTTP/1.1 200 Connection established\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                } else {
+                    // Satu koneksi per request agar request berikutnya ke host lain tetap melewati filter
+                    upstream.getOutputStream().write(withConnectionClose(headText).getBytes(StandardCharsets.ISO_8859_1));
+                }
+                executor.execute(() -> pipe(clientSocket, upstream, null));
+                long received = pipe(upstream, clientSocket, bytesReceived);
+                baseline.record(host, received);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Koneksi proxy berakhir: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Metode untuk membaca header request sampai baris kosong
+     * @return header request, atau null jika koneksi ditutup sebelum header lengkap
+     */
+    private static byte[] readHead(InputStream in) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        // Empat byte terakhir yang dibaca, header selesai saat bernilai \r\n\r\n
+        int lastBytes = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            head.write(b);
+            lastBytes = (lastBytes << 8) | b;
+            if (lastBytes == 0x0d0a0d0a) {
+                return head.toByteArray();
+            }
+            if (head.size() > MAX_HEADER_SIZE) {
+                throw new IOException("Header request terlalu besar");
+            }
+        }
+        return null;
+    }
+
+    private static String withConnectionClose(String head) {
+        StringBuilder rewritten = new StringBuilder();
+        for (String line : head.split("\r\n")) {
+            String lower = line.toLowerCase();
+            if (!lower.startsWith("connection:") && !lower.startsWith("proxy-connection:") && !line.isEmpty()) {
+                rewritten.append(line).append("\r\n");
+            }
+        }
+        return rewritten.append("Connection: close\r\n\r\n").toString();
+    }
+
+    /**
+     * Metode untuk meneruskan byte dari satu socket ke socket lain sampai koneksi ditutup
+     * @return jumlah byte yang diteruskan
+     */
+    private static long pipe(Socket from, Socket to, AtomicLong counter) {
+        long total = 0;
+        byte[] buffer = new byte[16 * 1024];
+        try {
+            InputStream in = from.getInputStream();
+            OutputStream out = to.getOutputStream();
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                total += read;
+                if (counter != null) {
+                    counter.addAndGet(read);
+                }
+            }
+        } catch (IOException e) {
+            // Koneksi ditutup oleh salah satu sisi
+        } finally {
+            try {
+                to.shutdownOutput();
+            } catch (IOException e) {
+                // Socket sudah ditutup
+            }
+        }
+        return total;
+    }
+}
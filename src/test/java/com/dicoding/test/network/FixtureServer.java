@@ -0,0 +1,284 @@
+package com.dicoding.test.network;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FixtureServer adalah HTTP server lokal yang menggantikan website asli selama test
+ * Mode RECORD meneruskan request ke origin lalu menyimpan response-nya ke FixtureStore,
+ * mode REPLAY hanya menyajikan response dari FixtureStore tanpa akses jaringan
+ */
+public class FixtureServer implements Closeable {
+    private static final Logger logger = LogManager.getLogger(FixtureServer.class);
+
+    private static final Duration ORIGIN_TIMEOUT = Duration.ofSeconds(30);
+
+    // Header request yang diteruskan ke origin saat merekam
+    private static final Set<String> FORWARDED_REQUEST_HEADERS = Set.of(
+            "accept", "accept-language", "content-type", "cookie", "origin", "referer", "user-agent",
+            "x-requested-with");
+    // Header response yang ditentukan ulang oleh server lokal
+    private static final Set<String> SKIPPED_RESPONSE_HEADERS = Set.of(
+            "connection", "content-encoding", "content-length", "keep-alive", "transfer-encoding",
+            "strict-transport-security", "alt-svc");
+    // Content-Type yang isinya dapat memuat URL origin
+    private static final List<String> TEXT_CONTENT_TYPES = List.of("text/", "javascript", "json", "xml");
+
+    /**
+     * Mode fixture server: OFF memakai website asli, RECORD merekam, REPLAY memutar ulang rekaman
+     */
+    public enum Mode {
+        OFF, RECORD, REPLAY
+    }
+
+    private final Mode mode;
+    private final String origin;
+    private final FixtureStore store;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final HttpClient client;
+
+    private final AtomicInteger served = new AtomicInteger();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicInteger missing = new AtomicInteger();
+
+    /**
+     * Konstruktor untuk FixtureServer, server langsung berjalan di localhost
+     * @param mode RECORD atau REPLAY
+     * @param origin URL website asli, misalnya https://www.dicoding.com
+     * @param store tempat fixture disimpan
+     * @param port port server, atau 0 untuk port acak
+     * @throws IOException jika port tidak dapat dibuka
+     */
+    public FixtureServer(Mode mode, String origin, FixtureStore store, int port) throws IOException {
+        if (mode == Mode.OFF) {
+            throw new IllegalArgumentException("FixtureServer hanya dapat dijalankan dalam mode RECORD atau REPLAY");
+        }
+        this.mode = mode;
+        this.origin = origin.endsWith("/") ? origin.substring(0, origin.length() - 1) : origin;
+        this.store = store;
+        this.client = mode == Mode.RECORD
+                ? HttpClient.newBuilder()
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .connectTimeout(ORIGIN_TIMEOUT)
+                        .build()
+                : null;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("Fixture server ({}) berjalan di {} dengan fixture di {}", mode, getBaseUrl(), store.getDirectory());
+    }
+
+    /**
+     * Metode untuk membaca mode fixture dari teks konfigurasi
+     * @param value off, record, atau replay
+     * @return mode fixture
+     */
+    public static Mode parseMode(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Mode.OFF;
+        }
+        return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Metode untuk mendapatkan base URL server lokal
+     * @return base URL yang dipakai browser menggantikan origin
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Metode untuk mendapatkan ringkasan statistik server
+     * @return jumlah response yang disajikan, direkam, dan request yang tidak memiliki fixture
+     */
+    public String getStatistics() {
+        return "mode=" + mode + ", disajikan=" + served.get() + ", direkam=" + recorded.get()
+                + ", tidak ditemukan=" + missing.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("Fixture server ditutup. {}", getStatistics());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            URI uri = exchange.getRequestURI();
+            byte[] requestBody = readAll(exchange.getRequestBody());
+
+            FixtureStore.Fixture fixture = mode == Mode.RECORD
+                    ? record(exchange, method, uri, requestBody)
+                    : store.find(method, uri);
+            if (fixture == null) {
+                missing.incrementAndGet();
+                logger.warn("Fixture tidak ditemukan: {}", FixtureStore.key(method, uri));
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            served.incrementAndGet();
+            send(exchange, method, fixture);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.error("Gagal menyajikan {}", exchange.getRequestURI(), e);
+            if (exchange.getResponseCode() == -1) {
+                exchange.sendResponseHeaders(502, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Metode untuk meneruskan request ke origin dan menyimpan response-nya
+     */
+    private FixtureStore.Fixture record(HttpExchange exchange, String method, URI uri, byte[] requestBody)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(origin + uri.toString()))
+                .timeout(ORIGIN_TIMEOUT)
+                .method(method, requestBody.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(requestBody))
+                // Response disimpan tanpa kompresi agar URL di dalamnya dapat ditulis ulang
+                .header("Accept-Encoding", "identity");
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            if (FORWARDED_REQUEST_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                for (String value : values) {
+                    request.header(name, value.replace(getBaseUrl(), origin));
+                }
+            }
+        });
+
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":")) {
+                headers.put(name, values);
+            }
+        });
+        FixtureStore.Fixture fixture = new FixtureStore.Fixture(response.statusCode(), headers, response.body());
+        store.save(method, uri, fixture);
+        recorded.incrementAndGet();
+        return fixture;
+    }
+
+    /**
+     * Metode untuk mengirim fixture ke browser
+     * URL origin di header dan isi response teks diganti dengan alamat server lokal
+     */
+    private void send(HttpExchange exchange, String method, FixtureStore.Fixture fixture) throws IOException {
+        Headers responseHeaders = exchange.getResponseHeaders();
+        boolean text = false;
+        for (Map.Entry<String, List<String>> header : fixture.getHeaders().entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (SKIPPED_RESPONSE_HEADERS.contains(name)) {
+                continue;
+            }
+            if ("content-type".equals(name)) {
+                text = isText(header.getValue());
+            }
+            List<String> values = new ArrayList<>();
+            for (String value : header.getValue()) {
+                if ("set-cookie".equals(name)) {
+                    values.add(rewriteCookie(value));
+                } else {
+                    values.add(rewriteUrls(value));
+                }
+            }
+            responseHeaders.put(header.getKey(), values);
+        }
+
+        byte[] body = fixture.getBody();
+        if (text) {
+            body = rewriteUrls(new String(body, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        }
+        boolean noBody = "HEAD".equalsIgnoreCase(method) || fixture.getStatus() == 204
+                || fixture.getStatus() == 304 || body.length == 0;
+        exchange.sendResponseHeaders(fixture.getStatus(), noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private String rewriteUrls(String content) {
+        String local = getBaseUrl();
+        String originHost = origin.substring(origin.indexOf("//"));
+        String localHost = local.substring(local.indexOf("//"));
+        return content.replace(origin, local)
+                .replace(origin.replace("/", "\\/"), local.replace("/", "\\/"))
+                .replace(originHost, localHost);
+    }
+
+    /**
+     * Metode untuk menyesuaikan cookie agar diterima browser di http://localhost
+     */
+    private static String rewriteCookie(String cookie) {
+        StringBuilder rewritten = new StringBuilder();
+        for (String attribute : cookie.split(";")) {
+            String lower = attribute.trim().toLowerCase(Locale.ROOT);
+            if (lower.startsWith("domain=") || lower.equals("secure") || lower.equals("samesite=none")) {
+                continue;
+            }
+            if (rewritten.length() > 0) {
+                rewritten.append(";");
+            }
+            rewritten.append(attribute);
+        }
+        return rewritten.toString();
+    }
+
+    private static boolean isText(List<String> contentTypes) {
+        for (String contentType : contentTypes) {
+            String lower = contentType.toLowerCase(Locale.ROOT);
+            if (TEXT_CONTENT_TYPES.stream().anyMatch(lower::contains)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            return input.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.dicoding.test.network;
+
+import com.dicoding.test.utils.Hashes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FixtureStore menyimpan response HTTP yang direkam ke disk
+ * Setiap response disimpan sebagai dua file: metadata (.properties) dan isi response (.body),
+ * dengan nama hash SHA-256 dari method dan URI request
+ */
+public class FixtureStore {
+    private static final Logger logger = LogManager.getLogger(FixtureStore.class);
+
+    private static final String HEADER_PREFIX = "header.";
+
+    private final Path directory;
+    private final Map<String, Fixture> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Response HTTP yang tersimpan
+     */
+    public static class Fixture {
+        private final int status;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+
+        public Fixture(int status, Map<String, List<String>> headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+
+    /**
+     * Konstruktor untuk FixtureStore
+     * @param directory direktori tempat fixture disimpan
+     */
+    public FixtureStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Metode untuk membuat kunci fixture dari request
+     * Parameter query diurutkan agar urutan parameter tidak menghasilkan fixture berbeda
+     * @param method method HTTP
+     * @param uri URI request (path dan query)
+     * @return kunci fixture
+     */
+    public static String key(String method, URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return method + " " + path;
+        }
+        String[] parameters = query.split("&");
+        Arrays.sort(parameters);
+        return method + " " + path + "?" + String.join("&", parameters);
+    }
+
+    /**
+     * Metode untuk mencari fixture untuk request
+     * @param method method HTTP
+     * @param uri URI request
+     * @return fixture, atau null jika request belum pernah direkam
+     */
+    public Fixture find(String method, URI uri) {
+        String key = key(method, uri);
+        Fixture fixture = cache.get(key);
+        if (fixture != null) {
+            return fixture;
+        }
+        fixture = read(key);
+        if (fixture != null) {
+            cache.put(key, fixture);
+        }
+        return fixture;
+    }
+
+    /**
+     * Metode untuk menyimpan fixture untuk request
+     * @param method method HTTP
+     * @param uri URI request
+     * @param fixture response yang disimpan
+     */
+    public void save(String method, URI uri, Fixture fixture) {
+        String key = key(method, uri);
+        cache.put(key, fixture);
+
+        Properties metadata = new Properties();
+        metadata.setProperty("request", key);
+        metadata.setProperty("status", String.valueOf(fixture.getStatus()));
+        fixture.getHeaders().forEach((name, values) ->
+                metadata.setProperty(HEADER_PREFIX + name, String.join("\n", values)));
+
+        String baseName = fileName(key);
+        try {
+            Files.createDirectories(directory);
+            Path bodyTemp = Files.createTempFile(directory, baseName, ".tmp");
+            Files.write(bodyTemp, fixture.getBody());
+            Files.move(bodyTemp, directory.resolve(baseName + ".body"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Path metadataTemp = Files.createTempFile(directory, baseName, ".tmp");
+            try (OutputStream out = Files.newOutputStream(metadataTemp)) {
+                metadata.store(out, key);
+            }
+            Files.move(metadataTemp, directory.resolve(baseName + ".properties"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Fixture direkam: {}", key);
+        } catch (IOException e) {
+            logger.error("Gagal menyimpan fixture {}", key, e);
+        }
+    }
+
+    private Fixture read(String key) {
+        String baseName = fileName(key);
+        Path metadataFile = directory.resolve(baseName + ".properties");
+        Path bodyFile = directory.resolve(baseName + ".body");
+        if (!Files.exists(metadataFile) || !Files.exists(bodyFile)) {
+            return null;
+        }
+        Properties metadata = new Properties();
+        try (InputStream in = Files.newInputStream(metadataFile)) {
+            metadata.load(in);
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : metadata.stringPropertyNames()) {
+                if (name.startsWith(HEADER_PREFIX)) {
+                    headers.put(name.substring(HEADER_PREFIX.length()),
+                            Collections.unmodifiableList(new ArrayList<>(
+                                    Arrays.asList(metadata.getProperty(name).split("\n")))));
+                }
+            }
+            return new Fixture(Integer.parseInt(metadata.getProperty("status")), headers, Files.readAllBytes(bodyFile));
+        } catch (IOException | RuntimeException e) {
+            logger.error("Gagal membaca fixture {}", key, e);
+            return null;
+        }
+    }
+
+    private static String fileName(String key) {
+        return Hashes.sha256(key);
+    }
+}
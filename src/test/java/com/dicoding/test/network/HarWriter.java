@@ -0,0 +1,138 @@
+package com.dicoding.test.network;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HarWriter menulis daftar request ke file HAR 1.2 yang dapat dibuka di DevTools browser
+ */
+public class HarWriter {
+    private static final Json JSON = new Json();
+
+    private HarWriter() {
+    }
+
+    /**
+     * Metode untuk menulis file HAR
+     * @param file file tujuan
+     * @param pageTitle nama halaman di HAR, biasanya nama test
+     * @param entries daftar request
+     * @throws IOException jika file tidak dapat ditulis
+     */
+    public static void write(Path file, String pageTitle, List<NetworkEntry> entries) throws IOException {
+        String started = entries.isEmpty()
+                ? Instant.now().toString()
+                : Instant.ofEpochMilli(entries.get(0).getStartedAt()).toString();
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("startedDateTime", started);
+        page.put("id", "page_1");
+        page.put("title", pageTitle);
+        page.put("pageTimings", new LinkedHashMap<>());
+
+        List<Object> harEntries = new ArrayList<>();
+        for (NetworkEntry entry : entries) {
+            harEntries.add(toHar(entry));
+        }
+
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", Map.of("name", "DicodingAutomationTest", "version", "1.0"));
+        log.put("pages", List.of(page));
+        log.put("entries", harEntries);
+
+        Files.createDirectories(file.getParent());
+        Files.write(file, JSON.toJson(Map.of("log", log)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Object> toHar(NetworkEntry entry) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", entry.getMethod());
+        request.put("url", entry.getUrl());
+        request.put("httpVersion", entry.getProtocol());
+        request.put("cookies", List.of());
+        request.put("headers", headers(entry.getRequestHeaders()));
+        request.put("queryString", queryString(entry.getUrl()));
+        request.put("headersSize", -1);
+        request.put("bodySize", -1);
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("size", entry.getSize());
+        content.put("mimeType", entry.getMimeType());
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", entry.getStatus());
+        response.put("statusText", entry.getError() != null ? entry.getError() : entry.getStatusText());
+        response.put("httpVersion", entry.getProtocol());
+        response.put("cookies", List.of());
+        response.put("headers", headers(entry.getResponseHeaders()));
+        response.put("content", content);
+        response.put("redirectURL", header(entry.getResponseHeaders(), "Location"));
+        response.put("headersSize", -1);
+        response.put("bodySize", entry.getSize());
+
+        Map<String, Object> timings = new LinkedHashMap<>();
+        timings.put("blocked", entry.getBlocked());
+        timings.put("dns", entry.getDns());
+        timings.put("connect", entry.getConnect());
+        timings.put("ssl", entry.getSsl());
+        timings.put("send", 0);
+        timings.put("wait", Math.max(entry.getTtfb(), 0));
+        timings.put("receive", Math.max(entry.getTransfer(), 0));
+
+        Map<String, Object> harEntry = new LinkedHashMap<>();
+        harEntry.put("pageref", "page_1");
+        harEntry.put("startedDateTime", Instant.ofEpochMilli(entry.getStartedAt()).toString());
+        harEntry.put("time", entry.getTotal());
+        harEntry.put("request", request);
+        harEntry.put("response", response);
+        harEntry.put("cache", new LinkedHashMap<>());
+        harEntry.put("timings", timings);
+        return harEntry;
+    }
+
+    private static List<Object> headers(Map<String, String> headers) {
+        List<Object> result = new ArrayList<>();
+        headers.forEach((name, value) -> result.add(Map.of("name", name, "value", value)));
+        return result;
+    }
+
+    private static String header(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return "";
+    }
+
+    private static List<Object> queryString(String url) {
+        List<Object> result = new ArrayList<>();
+        String query;
+        try {
+            query = URI.create(url).getRawQuery();
+        } catch (IllegalArgumentException e) {
+            return result;
+        }
+        if (query == null) {
+            return result;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            result.add(Map.of(
+                    "name", separator < 0 ? parameter : parameter.substring(0, separator),
+                    "value", separator < 0 ? "" : parameter.substring(separator + 1)));
+        }
+        return result;
+    }
+}
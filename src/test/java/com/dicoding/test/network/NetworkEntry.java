@@ -0,0 +1,204 @@
+package com.dicoding.test.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NetworkEntry berisi timing satu request yang dikumpulkan dari event BiDi network.*
+ * Semua durasi dalam milidetik, bernilai -1 jika fase tersebut tidak terjadi (misalnya koneksi dipakai ulang)
+ */
+public class NetworkEntry {
+    private final String url;
+    private final String method;
+    private final int status;
+    private final String statusText;
+    private final String mimeType;
+    private final String protocol;
+    private final long startedAt;
+    private final double blocked;
+    private final double dns;
+    private final double connect;
+    private final double ssl;
+    private final double ttfb;
+    private final double transfer;
+    private final double total;
+    private final long size;
+    private final String error;
+    private final Map<String, String> requestHeaders;
+    private final Map<String, String> responseHeaders;
+
+    private NetworkEntry(Map<String, Object> request, Map<String, Object> response, long startedAt,
+                         double total, String error) {
+        Map<String, Object> timings = asMap(request.get("timings"));
+        this.url = String.valueOf(request.get("url"));
+        this.method = String.valueOf(request.get("method"));
+        this.status = (int) number(response.get("status"));
+        this.statusText = response.get("statusText") == null ? "" : String.valueOf(response.get("statusText"));
+        this.mimeType = response.get("mimeType") == null ? "" : String.valueOf(response.get("mimeType"));
+        this.protocol = response.get("protocol") == null ? "" : String.valueOf(response.get("protocol"));
+        this.startedAt = startedAt;
+        this.blocked = phase(timings, "fetchStart", firstPositive(timings, "dnsStart", "connectStart", "requestStart"));
+        this.dns = phase(timings, "dnsStart", "dnsEnd");
+        this.connect = phase(timings, "connectStart", "connectEnd");
+        this.ssl = phase(timings, "tlsStart", "connectEnd");
+        this.ttfb = phase(timings, "requestStart", "responseStart");
+        this.transfer = phase(timings, "responseStart", "responseEnd");
+        this.total = total;
+        this.size = (long) Math.max(number(response.get("bytesReceived")), 0);
+        this.error = error;
+        this.requestHeaders = headers(request.get("headers"));
+        this.responseHeaders = headers(response.get("headers"));
+    }
+
+    /**
+     * Metode untuk membuat entry dari event network.beforeRequestSent dan network.responseCompleted
+     * @param started parameter event saat request dikirim
+     * @param completed parameter event saat response selesai
+     * @return entry request
+     */
+    static NetworkEntry completed(Map<String, Object> started, Map<String, Object> completed) {
+        long startedAt = (long) number(started.get("timestamp"));
+        return new NetworkEntry(asMap(completed.get("request")), asMap(completed.get("response")), startedAt,
+                number(completed.get("timestamp")) - startedAt, null);
+    }
+
+    /**
+     * Metode untuk membuat entry dari event network.fetchError
+     * @param started parameter event saat request dikirim
+     * @param failed parameter event saat request gagal
+     * @return entry request dengan status 0
+     */
+    static NetworkEntry failed(Map<String, Object> started, Map<String, Object> failed) {
+        long startedAt = (long) number(started.get("timestamp"));
+        return new NetworkEntry(asMap(failed.get("request")), Collections.emptyMap(), startedAt,
+                number(failed.get("timestamp")) - startedAt, String.valueOf(failed.get("errorText")));
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getStatusText() {
+        return statusText;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public double getBlocked() {
+        return blocked;
+    }
+
+    public double getDns() {
+        return dns;
+    }
+
+    public double getConnect() {
+        return connect;
+    }
+
+    public double getSsl() {
+        return ssl;
+    }
+
+    public double getTtfb() {
+        return ttfb;
+    }
+
+    public double getTransfer() {
+        return transfer;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Map<String, String> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    public Map<String, String> getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%6.0f ms  %-4s %3d  dns=%.0f connect=%.0f ttfb=%.0f transfer=%.0f  %d B  %s",
+                total, method, status, Math.max(dns, 0), Math.max(connect, 0), Math.max(ttfb, 0),
+                Math.max(transfer, 0), size, url);
+    }
+
+    private static double phase(Map<String, Object> timings, String start, String end) {
+        double startValue = number(timings.get(start));
+        double endValue = number(timings.get(end));
+        if (startValue <= 0 || endValue <= 0 || endValue < startValue) {
+            return -1;
+        }
+        return endValue - startValue;
+    }
+
+    private static String firstPositive(Map<String, Object> timings, String... names) {
+        for (String name : names) {
+            if (number(timings.get(name)) > 0) {
+                return name;
+            }
+        }
+        return names[names.length - 1];
+    }
+
+    /**
+     * Metode untuk membaca header BiDi; nilai header bisa berupa teks atau {type, value}
+     */
+    private static Map<String, String> headers(Object rawHeaders) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (!(rawHeaders instanceof List)) {
+            return headers;
+        }
+        for (Object rawHeader : new ArrayList<>((List<?>) rawHeaders)) {
+            Map<String, Object> header = asMap(rawHeader);
+            Object value = header.get("value");
+            if (value instanceof Map) {
+                value = ((Map<?, ?>) value).get("value");
+            }
+            headers.put(String.valueOf(header.get("name")), String.valueOf(value));
+        }
+        return headers;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> asMap(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Collections.emptyMap();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+}
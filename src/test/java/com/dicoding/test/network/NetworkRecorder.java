@@ -0,0 +1,101 @@
+package com.dicoding.test.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.Event;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * NetworkRecorder mengumpulkan timing request dari event BiDi network.* untuk satu sesi browser
+ * Event dikirim oleh browser melalui WebSocket, sehingga tidak ada polling dari sisi test
+ */
+public class NetworkRecorder {
+    private static final Logger logger = LogManager.getLogger(NetworkRecorder.class);
+
+    private static final Event<Map<String, Object>> BEFORE_REQUEST_SENT =
+            new Event<>("network.beforeRequestSent", params -> params);
+    private static final Event<Map<String, Object>> RESPONSE_COMPLETED =
+            new Event<>("network.responseCompleted", params -> params);
+    private static final Event<Map<String, Object>> FETCH_ERROR =
+            new Event<>("network.fetchError", params -> params);
+
+    // Request yang sudah dikirim tetapi belum selesai, berdasarkan id request BiDi
+    private final Map<String, Map<String, Object>> pending = new ConcurrentHashMap<>();
+    private final List<NetworkEntry> entries = new ArrayList<>();
+
+    /**
+     * Konstruktor untuk NetworkRecorder, listener langsung didaftarkan ke sesi BiDi
+     * @param biDi koneksi BiDi milik sesi browser
+     */
+    public NetworkRecorder(BiDi biDi) {
+        biDi.addListener(BEFORE_REQUEST_SENT, params -> {
+            String id = requestId(params);
+            if (id != null) {
+                pending.put(id, params);
+            }
+        });
+        biDi.addListener(RESPONSE_COMPLETED, params -> {
+            Map<String, Object> started = pending.remove(String.valueOf(requestId(params)));
+            if (started != null) {
+                add(NetworkEntry.completed(started, params));
+            }
+        });
+        biDi.addListener(FETCH_ERROR, params -> {
+            Map<String, Object> started = pending.remove(String.valueOf(requestId(params)));
+            if (started != null) {
+                add(NetworkEntry.failed(started, params));
+            }
+        });
+        logger.info("Perekam network BiDi aktif");
+    }
+
+    /**
+     * Metode untuk menghapus semua request yang sudah direkam, dipanggil di awal setiap test
+     */
+    public void reset() {
+        pending.clear();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Metode untuk mendapatkan salinan request yang sudah direkam sesuai urutan selesainya
+     * @return daftar request
+     */
+    public List<NetworkEntry> getEntries() {
+        synchronized (entries) {
+            return new ArrayList<>(entries);
+        }
+    }
+
+    /**
+     * Metode untuk mendapatkan request paling lambat
+     * @param limit jumlah maksimum request
+     * @return request diurutkan dari yang paling lambat
+     */
+    public List<NetworkEntry> getSlowest(int limit) {
+        return getEntries().stream()
+                .sorted(Comparator.comparingDouble(NetworkEntry::getTotal).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private void add(NetworkEntry entry) {
+        synchronized (entries) {
+            entries.add(entry);
+        }
+    }
+
+    private static String requestId(Map<String, Object> params) {
+        Object id = NetworkEntry.asMap(params.get("request")).get("request");
+        return id == null ? null : String.valueOf(id);
+    }
+}
@@ -0,0 +1,150 @@
+package com.dicoding.test.network;
+
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * RequestFilter memblokir request yang tidak dibutuhkan test (analytics, chat widget, font, media)
+ * Host diblokir melalui FilteringProxy per sesi, jenis resource diblokir melalui preferensi Firefox
+ */
+public class RequestFilter {
+    public static final String DEFAULT_DENY_HOSTS = "google-analytics.com,googletagmanager.com,doubleclick.net,"
+            + "facebook.net,facebook.com,hotjar.com,clarity.ms,tawk.to,intercom.io,crisp.chat,"
+            + "fonts.googleapis.com,fonts.gstatic.com";
+    public static final String DEFAULT_BLOCK_TYPES = "font,media";
+
+    /**
+     * Mode filter: OFF tidak memasang proxy, OBSERVE hanya mencatat ukuran trafik per host
+     * untuk baseline, BLOCK memblokir host dan jenis resource yang dikonfigurasi
+     */
+    public enum Mode {
+        OFF, OBSERVE, BLOCK
+    }
+
+    private final Mode mode;
+    private final Set<String> denyHosts;
+    private final Set<String> allowHosts;
+    private final Set<String> blockTypes;
+    private final TrafficBaseline baseline;
+
+    /**
+     * Konstruktor untuk RequestFilter
+     * @param mode mode filter
+     * @param denyHosts daftar host yang diblokir (dipisah koma), termasuk subdomain; "*" untuk semua host
+     * @param allowHosts daftar host yang selalu diizinkan meskipun cocok dengan daftar blokir
+     * @param blockTypes jenis resource yang diblokir: image, font, media
+     * @param baselineFile file baseline trafik per host
+     */
+    public RequestFilter(Mode mode, String denyHosts, String allowHosts, String blockTypes, Path baselineFile) {
+        this.mode = mode;
+        this.denyHosts = parseList(denyHosts);
+        this.allowHosts = parseList(allowHosts);
+        this.blockTypes = parseList(blockTypes);
+        this.baseline = new TrafficBaseline(baselineFile);
+    }
+
+    /**
+     * Metode untuk membaca mode filter dari teks konfigurasi
+     * @param value off, observe, atau block (true dianggap block)
+     * @return mode filter
+     */
+    public static Mode parseMode(String value) {
+        if (value == null || value.isEmpty() || "false".equalsIgnoreCase(value)) {
+            return Mode.OFF;
+        }
+        if ("true".equalsIgnoreCase(value)) {
+            return Mode.BLOCK;
+        }
+        return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.OFF;
+    }
+
+    /**
+     * Metode untuk memeriksa apakah koneksi ke host harus diblokir
+     * @param host nama host
+     * @return true jika host diblokir
+     */
+    public boolean isBlocked(String host) {
+        if (mode != Mode.BLOCK || matches(allowHosts, host)) {
+            return false;
+        }
+        return denyHosts.contains("*") || matches(denyHosts, host);
+    }
+
+    /**
+     * Metode untuk memasang filter pada konfigurasi Firefox
+     * @param options Firefox options yang akan dipakai membuat sesi
+     * @return proxy yang dipakai sesi tersebut, atau null jika filter tidak aktif
+     * @throws IOException jika proxy tidak dapat dijalankan
+     */
+    public FilteringProxy apply(FirefoxOptions options) throws IOException {
+        if (!isEnabled()) {
+            return null;
+        }
+        FilteringProxy proxy = new FilteringProxy(this::isBlocked, baseline);
+        options.addPreference("network.proxy.type", 1);
+        options.addPreference("network.proxy.http", "127.0.0.1");
+        options.addPreference("network.proxy.http_port", proxy.getPort());
+        options.addPreference("network.proxy.ssl", "127.0.0.1");
+        options.addPreference("network.proxy.ssl_port", proxy.getPort());
+        // Koneksi spekulatif tidak dibuka agar hitungan koneksi sesuai dengan request halaman
+        options.addPreference("network.http.speculative-parallel-limit", 0);
+
+        if (mode == Mode.BLOCK) {
+            if (blockTypes.contains("image")) {
+                options.addPreference("permissions.default.image", 2);
+            }
+            if (blockTypes.contains("font")) {
+                options.addPreference("gfx.downloadable_fonts.enabled", false);
+            }
+            if (blockTypes.contains("media")) {
+                options.addPreference("media.autoplay.default", 5);
+                options.addPreference("media.preload.default", 0);
+            }
+        }
+        return proxy;
+    }
+
+    /**
+     * Metode untuk menyimpan baseline trafik ke file
+     */
+    public void saveBaseline() {
+        if (isEnabled()) {
+            baseline.save();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "mode=" + mode + ", deny=" + denyHosts + ", allow=" + allowHosts + ", types=" + blockTypes;
+    }
+
+    private static boolean matches(Set<String> hosts, String host) {
+        for (String pattern : hosts) {
+            if (host.equals(pattern) || host.endsWith("." + pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> parseList(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+        return Arrays.stream(value.split(","))
+                .map(item -> item.trim().toLowerCase(Locale.ROOT))
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
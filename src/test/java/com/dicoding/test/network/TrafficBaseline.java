@@ -0,0 +1,96 @@
+package com.dicoding.test.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TrafficBaseline menyimpan rata-rata byte per koneksi untuk setiap host
+ * Data ini dipakai untuk memperkirakan byte yang dihemat saat koneksi ke host tersebut diblokir
+ */
+public class TrafficBaseline {
+    private static final Logger logger = LogManager.getLogger(TrafficBaseline.class);
+
+    private final Path file;
+    private final Map<String, AtomicLong[]> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Konstruktor untuk TrafficBaseline, data lama dibaca dari file jika ada
+     * @param file file properties tempat baseline disimpan
+     */
+    public TrafficBaseline(Path file) {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * Metode untuk mencatat jumlah byte yang diterima dari satu koneksi
+     * @param host nama host
+     * @param bytes jumlah byte yang diterima
+     */
+    public void record(String host, long bytes) {
+        AtomicLong[] counters = hosts.computeIfAbsent(host, h -> new AtomicLong[] {new AtomicLong(), new AtomicLong()});
+        counters[0].incrementAndGet();
+        counters[1].addAndGet(bytes);
+    }
+
+    /**
+     * Metode untuk mendapatkan rata-rata byte per koneksi ke host
+     * @param host nama host
+     * @return rata-rata byte, atau 0 jika host belum pernah dicatat
+     */
+    public long averageBytes(String host) {
+        AtomicLong[] counters = hosts.get(host);
+        if (counters == null || counters[0].get() == 0) {
+            return 0;
+        }
+        return counters[1].get() / counters[0].get();
+    }
+
+    /**
+     * Metode untuk menyimpan baseline ke file
+     */
+    public void save() {
+        Properties properties = new Properties();
+        hosts.forEach((host, counters) -> properties.setProperty(host, counters[0].get() + "," + counters[1].get()));
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Rata-rata trafik per host: jumlah koneksi,total byte");
+            }
+        } catch (IOException e) {
+            logger.warn("Gagal menyimpan baseline trafik ke {}", file, e);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            logger.warn("Gagal membaca baseline trafik dari {}", file, e);
+            return;
+        }
+        for (String host : properties.stringPropertyNames()) {
+            String[] values = properties.getProperty(host).split(",");
+            try {
+                hosts.put(host, new AtomicLong[] {
+                        new AtomicLong(Long.parseLong(values[0])), new AtomicLong(Long.parseLong(values[1]))});
+            } catch (RuntimeException e) {
+                logger.warn("Baris baseline trafik tidak valid untuk host {}", host);
+            }
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.dicoding.test.pages;
 
+import com.dicoding.test.metrics.StepMetrics;
+import com.dicoding.test.utils.AdaptiveWait;
+import com.dicoding.test.utils.DomWaits;
+import com.dicoding.test.utils.LocatorScripts;
+import com.dicoding.test.utils.TestConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 /**
  * BasePage adalah kelas dasar untuk semua halaman
  * Kelas ini menyediakan metode-metode umum yang digunakan di semua halaman
@@ -13,8 +26,40 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 public class BasePage {
     protected WebDriver driver;
     protected WebDriverWait wait;
+    // Aksi dasar dicatat di level debug; page object mencatat langkah bisnisnya di level info
     protected static final Logger logger = LogManager.getLogger(BasePage.class);
 
+    private static final Duration PROBE_POLLING_INTERVAL = Duration.ofMillis(50);
+    private static final Duration PAGE_LOAD_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration ELEMENT_TIMEOUT = Duration.ofSeconds(10);
+    // Kondisi elemen, dipakai sebagai bagian kunci cache elemen dan kunci wait
+    private static final String VISIBLE = "visible";
+    private static final String CLICKABLE = "clickable";
+    // wait.adaptive=false kembali memakai WebDriverWait dengan poll tetap 500 ms
+    private static final boolean ADAPTIVE_WAIT = TestConfig.getBoolean("wait.adaptive", true);
+
+    // Cache elemen per instance halaman, dikosongkan saat halaman berpindah
+    private final ElementCache elementCache = new ElementCache();
+    private final AdaptiveWait adaptiveWait;
+
+    private static final String SNAPSHOT_SCRIPT = LocatorScripts.FUNCTIONS
+            + "var locators = arguments[0], elements = {};"
+            + "Object.keys(locators).forEach(function (name) {"
+            + "  var found = find(locators[name]);"
+            + "  var target = found.filter(isVisible)[0] || found[0];"
+            + "  var attributes = {};"
+            + "  if (target) {"
+            + "    toArray(target.attributes).forEach(function (a) { attributes[a.name] = a.value; });"
+            + "  }"
+            + "  elements[name] = {"
+            + "    present: found.length > 0,"
+            + "    visible: !!target && isVisible(target),"
+            + "    text: target ? (target.innerText || target.textContent || '').trim() : '',"
+            + "    attributes: attributes"
+            + "  };"
+            + "});"
+            + "return { title: document.title, url: window.location.href, elements: elements };";
+
     /**
      * Konstruktor untuk BasePage
      * 
@@ -24,6 +69,7 @@ public class BasePage {
     public BasePage(WebDriver driver, WebDriverWait wait) {
         this.driver = driver;
         this.wait = wait;
+        this.adaptiveWait = new AdaptiveWait(driver, ELEMENT_TIMEOUT);
     }
 
     /**
@@ -34,9 +80,9 @@ public class BasePage {
      */
     protected WebElement waitForElementVisible(By locator) {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return waitUntil(VISIBLE + " " + locator, ExpectedConditions.visibilityOfElementLocated(locator));
         } catch (TimeoutException e) {
-            logger.warn("Element not visible: " + locator);
+            logger.warn("Element not visible: {}", locator);
             return null;
         }
     }
@@ -49,31 +95,110 @@ public class BasePage {
      */
     protected WebElement waitForElementClickable(By locator) {
         try {
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            return waitUntil(CLICKABLE + " " + locator, ExpectedConditions.elementToBeClickable(locator));
         } catch (TimeoutException e) {
-            logger.warn("Element not clickable: " + locator);
+            logger.warn("Element not clickable: {}", locator);
             return null;
         }
     }
 
+    /**
+     * Metode untuk menunggu kondisi dengan AdaptiveWait, atau dengan WebDriverWait jika wait.adaptive=false
+     * 
+     * @param key       identitas wait untuk telemetri dan penundaan awal yang dipelajari
+     * @param condition kondisi yang ditunggu
+     * @return hasil kondisi yang terpenuhi
+     */
+    protected <T> T waitUntil(String key, Function<? super WebDriver, T> condition) {
+        return ADAPTIVE_WAIT ? adaptiveWait.until(key, condition) : wait.until(condition);
+    }
+
+    /**
+     * Metode untuk mendapatkan elemen dari cache, atau mencarinya dengan resolver jika belum ada
+     * 
+     * @param locator   locator elemen
+     * @param condition kondisi yang dijamin resolver, bagian dari kunci cache (misalnya visible)
+     * @param resolver  cara mencari elemen jika tidak ada di cache (misalnya menunggu visible)
+     * @return WebElement, atau null jika elemen tidak ditemukan
+     */
+    protected WebElement findCachedElement(By locator, String condition, Function<By, WebElement> resolver) {
+        WebElement element = elementCache.get(locator, condition);
+        if (element == null) {
+            element = resolver.apply(locator);
+            elementCache.put(locator, condition, element);
+        }
+        return element;
+    }
+
+    /**
+     * Metode untuk menjalankan aksi pada elemen dari cache
+     * Jika elemen sudah stale, elemen dicari ulang satu kali lalu aksi diulang
+     * 
+     * @param locator   locator elemen
+     * @param condition kondisi yang dijamin resolver
+     * @param element   elemen dari cache
+     * @param resolver  cara mencari ulang elemen
+     * @param action    aksi yang dijalankan pada elemen
+     * @return hasil aksi
+     */
+    private <T> T actOnElement(By locator, String condition, WebElement element, Function<By, WebElement> resolver,
+            Function<WebElement, T> action) {
+        try {
+            return action.apply(element);
+        } catch (StaleElementReferenceException e) {
+            elementCache.markStale(locator);
+            logger.debug("Elemen stale, mencari ulang: {}", locator);
+            WebElement freshElement = resolver.apply(locator);
+            if (freshElement == null) {
+                throw e;
+            }
+            elementCache.put(locator, condition, freshElement);
+            return action.apply(freshElement);
+        }
+    }
+
+    /**
+     * Metode untuk mengosongkan cache elemen, dipanggil setelah aksi yang memindahkan halaman
+     */
+    protected void invalidateElementCache() {
+        elementCache.clear();
+    }
+
+    /**
+     * Metode untuk mendapatkan statistik cache elemen halaman ini
+     * 
+     * @return cache elemen beserta jumlah hit, miss, dan stale
+     */
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
     /**
      * Metode untuk mengklik elemen
      * 
      * @param locator locator elemen
      */
     protected void click(By locator) {
-        WebElement element = waitForElementClickable(locator);
-        if (element != null) {
-            try {
-                element.click();
-                logger.info("Mengklik elemen: " + locator);
-            } catch (Exception e) {
-                logger.error("Gagal mengklik elemen: " + locator, e);
-                // Coba klik dengan JavaScript jika click biasa gagal
-                clickWithJS(element);
+        long start = System.nanoTime();
+        try {
+            WebElement element = findCachedElement(locator, CLICKABLE, this::waitForElementClickable);
+            if (element != null) {
+                try {
+                    actOnElement(locator, CLICKABLE, element, this::waitForElementClickable, e -> {
+                        e.click();
+                        return e;
+                    });
+                    logger.debug("Mengklik elemen: {}", locator);
+                } catch (Exception e) {
+                    logger.error("Gagal mengklik elemen: {}", locator, e);
+                    // Coba klik dengan JavaScript jika click biasa gagal
+                    clickWithJS(element);
+                }
+            } else {
+                logger.error("Tidak dapat mengklik elemen karena tidak ditemukan: {}", locator);
             }
-        } else {
-            logger.error("Tidak dapat mengklik elemen karena tidak ditemukan: " + locator);
+        } finally {
+            StepMetrics.record(this, "click", locator, start);
         }
     }
 
@@ -86,7 +211,7 @@ public class BasePage {
         try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].click();", element);
-            logger.info("Mengklik elemen dengan JavaScript");
+            logger.debug("Mengklik elemen dengan JavaScript");
         } catch (Exception e) {
             logger.error("Gagal mengklik elemen dengan JavaScript", e);
         }
@@ -99,17 +224,25 @@ public class BasePage {
      * @param text    teks yang akan diisi
      */
     protected void type(By locator, String text) {
-        WebElement element = waitForElementVisible(locator);
-        if (element != null) {
-            try {
-                element.clear();
-                element.sendKeys(text);
-                logger.info("Mengisi teks pada elemen: " + locator + " dengan nilai: " + text);
-            } catch (Exception e) {
-                logger.error("Gagal mengisi teks pada elemen: " + locator, e);
+        long start = System.nanoTime();
+        try {
+            WebElement element = findCachedElement(locator, VISIBLE, this::waitForElementVisible);
+            if (element != null) {
+                try {
+                    actOnElement(locator, VISIBLE, element, this::waitForElementVisible, e -> {
+                        e.clear();
+                        e.sendKeys(text);
+                        return e;
+                    });
+                    logger.debug("Mengisi teks pada elemen: {} dengan nilai: {}", locator, text);
+                } catch (Exception e) {
+                    logger.error("Gagal mengisi teks pada elemen: {}", locator, e);
+                }
+            } else {
+                logger.error("Tidak dapat mengisi teks karena elemen tidak ditemukan: {}", locator);
             }
-        } else {
-            logger.error("Tidak dapat mengisi teks karena elemen tidak ditemukan: " + locator);
+        } finally {
+            StepMetrics.record(this, "type", locator, start);
         }
     }
 
@@ -120,28 +253,155 @@ public class BasePage {
      * @return teks dari elemen
      */
     protected String getText(By locator) {
-        WebElement element = waitForElementVisible(locator);
-        if (element != null) {
-            String text = element.getText();
-            logger.info("Mendapatkan teks dari elemen: " + locator + " dengan nilai: " + text);
-            return text;
-        } else {
-            logger.warn("Tidak dapat mendapatkan teks karena elemen tidak ditemukan: " + locator);
-            return "";
+        long start = System.nanoTime();
+        try {
+            WebElement element = findCachedElement(locator, VISIBLE, this::waitForElementVisible);
+            if (element != null) {
+                String text = actOnElement(locator, VISIBLE, element, this::waitForElementVisible, WebElement::getText);
+                logger.debug("Mendapatkan teks dari elemen: {} dengan nilai: {}", locator, text);
+                return text;
+            } else {
+                logger.warn("Tidak dapat mendapatkan teks karena elemen tidak ditemukan: {}", locator);
+                return "";
+            }
+        } finally {
+            StepMetrics.record(this, "getText", locator, start);
         }
     }
 
     /**
-     * Metode untuk memeriksa apakah elemen ditampilkan
+     * Metode untuk men-submit form dari elemen, misalnya input pencarian
+     * Cache elemen dikosongkan karena submit memindahkan halaman
+     * 
+     * @param locator locator elemen di dalam form
+     */
+    protected void submit(By locator) {
+        long start = System.nanoTime();
+        try {
+            WebElement element = findCachedElement(locator, VISIBLE, this::waitForElementVisible);
+            if (element != null) {
+                actOnElement(locator, VISIBLE, element, this::waitForElementVisible, e -> {
+                    e.submit();
+                    return e;
+                });
+                logger.debug("Submit form dari elemen: {}", locator);
+            } else {
+                logger.error("Tidak dapat submit form karena elemen tidak ditemukan: {}", locator);
+            }
+            invalidateElementCache();
+        } finally {
+            StepMetrics.record(this, "submit", locator, start);
+        }
+    }
+
+    /**
+     * Metode untuk memeriksa apakah elemen ada di DOM tanpa menunggu
+     * Memakai findElements sehingga elemen yang tidak ada langsung mengembalikan false
+     * (implicit wait selalu 0, lihat DriverFactory)
+     * 
+     * @param locator locator elemen
+     * @return true jika elemen ada, false jika tidak
+     */
+    protected boolean isElementPresent(By locator) {
+        long start = System.nanoTime();
+        try {
+            return !driver.findElements(locator).isEmpty();
+        } finally {
+            StepMetrics.record(this, "isElementPresent", locator, start);
+        }
+    }
+
+    /**
+     * Metode untuk memeriksa apakah elemen ditampilkan tanpa menunggu
      * 
      * @param locator locator elemen
-     * @return true jika elemen ditampilkan, false jika tidak
+     * @return true jika salah satu elemen yang cocok ditampilkan, false jika tidak
      */
     protected boolean isElementDisplayed(By locator) {
+        long start = System.nanoTime();
         try {
-            return driver.findElement(locator).isDisplayed();
-        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            return anyDisplayed(locator);
+        } finally {
+            StepMetrics.record(this, "isElementDisplayed", locator, start);
+        }
+    }
+
+    /**
+     * Metode untuk memeriksa apakah elemen ditampilkan dalam batas waktu tertentu
+     * Cocok untuk elemen yang muncul sedikit terlambat tanpa harus menunggu timeout penuh
+     * 
+     * @param locator locator elemen
+     * @param budget  batas waktu pemeriksaan
+     * @return true jika elemen ditampilkan sebelum batas waktu, false jika tidak
+     */
+    protected boolean isElementDisplayed(By locator, Duration budget) {
+        long start = System.nanoTime();
+        try {
+            return new FluentWait<>(driver)
+                    .withTimeout(budget)
+                    .pollingEvery(PROBE_POLLING_INTERVAL)
+                    .until(webDriver -> anyDisplayed(locator));
+        } catch (TimeoutException e) {
             return false;
+        } finally {
+            StepMetrics.record(this, "isElementDisplayed", locator, start);
+        }
+    }
+
+    private boolean anyDisplayed(By locator) {
+        for (WebElement element : driver.findElements(locator)) {
+            try {
+                if (element.isDisplayed()) {
+                    return true;
+                }
+            } catch (StaleElementReferenceException e) {
+                // Elemen sudah hilang dari DOM, lanjut ke elemen berikutnya
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Metode untuk mengambil kondisi beberapa elemen sekaligus dalam satu round trip
+     * Hasil berisi status present/visible, teks, dan atribut tiap elemen, serta judul dan URL halaman
+     * 
+     * @param locators map nama elemen ke locator-nya
+     * @return snapshot halaman
+     */
+    @SuppressWarnings("unchecked")
+    protected PageSnapshot takeSnapshot(Map<String, By> locators) {
+        Map<String, Object> scriptLocators = new HashMap<>();
+        locators.forEach((name, locator) -> scriptLocators.put(name, LocatorScripts.toScriptLocator(locator)));
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(SNAPSHOT_SCRIPT, scriptLocators);
+        PageSnapshot snapshot = PageSnapshot.fromScriptResult(raw);
+        logger.debug("Snapshot halaman: {}", snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Metode untuk menunggu sampai snapshot halaman memenuhi kondisi tertentu
+     * Setiap percobaan hanya membutuhkan satu round trip ke browser
+     * 
+     * @param locators  map nama elemen ke locator-nya
+     * @param condition kondisi yang harus dipenuhi snapshot
+     * @return snapshot yang memenuhi kondisi, atau snapshot terakhir jika timeout
+     */
+    protected PageSnapshot waitForSnapshot(Map<String, By> locators, Predicate<PageSnapshot> condition) {
+        long start = System.nanoTime();
+        PageSnapshot[] lastSnapshot = new PageSnapshot[1];
+        String key = "snapshot " + getClass().getSimpleName() + " " + new TreeSet<>(locators.keySet());
+        try {
+            return waitUntil(key, webDriver -> {
+                lastSnapshot[0] = takeSnapshot(locators);
+                return condition.test(lastSnapshot[0]) ? lastSnapshot[0] : null;
+            });
+        } catch (TimeoutException e) {
+            logger.warn("Timeout menunggu kondisi snapshot halaman");
+            return lastSnapshot[0] != null ? lastSnapshot[0] : takeSnapshot(locators);
+        } finally {
+            // Nama elemen diurutkan agar label langkah stabil untuk Map.of yang urutannya acak
+            StepMetrics.record(this, "waitForSnapshot", String.join(",", new TreeSet<>(locators.keySet())), start);
         }
     }
 
@@ -152,7 +412,7 @@ public class BasePage {
      */
     public String getPageTitle() {
         String title = driver.getTitle();
-        logger.info("Mendapatkan judul halaman: " + title);
+        logger.debug("Mendapatkan judul halaman: {}", title);
         return title;
     }
 
@@ -163,7 +423,7 @@ public class BasePage {
      */
     public String getCurrentUrl() {
         String url = driver.getCurrentUrl();
-        logger.info("Mendapatkan URL saat ini: " + url);
+        logger.debug("Mendapatkan URL saat ini: {}", url);
         return url;
     }
 
@@ -173,15 +433,20 @@ public class BasePage {
      * @param locator locator elemen
      */
     protected void scrollToElement(By locator) {
-        WebElement element = driver.findElement(locator);
-        if (element != null) {
-            try {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                js.executeScript("arguments[0].scrollIntoView(true);", element);
-                logger.info("Scroll ke elemen: " + locator);
-            } catch (Exception e) {
-                logger.error("Gagal scroll ke elemen: " + locator, e);
+        long start = System.nanoTime();
+        try {
+            WebElement element = waitForElementVisible(locator);
+            if (element != null) {
+                try {
+                    JavascriptExecutor js = (JavascriptExecutor) driver;
+                    js.executeScript("arguments[0].scrollIntoView(true);", element);
+                    logger.debug("Scroll ke elemen: {}", locator);
+                } catch (Exception e) {
+                    logger.error("Gagal scroll ke elemen: {}", locator, e);
+                }
             }
+        } finally {
+            StepMetrics.record(this, "scrollToElement", locator, start);
         }
     }
 
@@ -189,12 +454,16 @@ public class BasePage {
      * Metode untuk menunggu halaman selesai dimuat
      */
     protected void waitForPageLoad() {
+        long start = System.nanoTime();
         try {
-            wait.until(webDriver -> ((JavascriptExecutor) webDriver)
-                    .executeScript("return document.readyState").equals("complete"));
-            logger.info("Halaman selesai dimuat");
-        } catch (TimeoutException e) {
-            logger.warn("Timeout menunggu halaman dimuat", e);
+            // Menunggu event readystatechange di browser, bukan polling melalui WebDriverWait
+            if (DomWaits.waitForReadyState(driver, PAGE_LOAD_TIMEOUT)) {
+                logger.debug("Halaman selesai dimuat");
+            } else {
+                logger.warn("Timeout menunggu halaman dimuat");
+            }
+        } finally {
+            StepMetrics.record(this, "waitForPageLoad", null, start);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.dicoding.test.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ElementCache menyimpan WebElement yang sudah ditemukan per locator dan kondisi untuk satu instance halaman
+ * Kondisi (misalnya visible atau clickable) ikut menjadi kunci, sehingga elemen yang ditemukan dengan kondisi yang
+ * lebih longgar tidak dipakai untuk aksi yang butuh kondisi lebih ketat.
+ * Elemen dihapus dari cache saat halaman berpindah atau saat StaleElementReferenceException terjadi
+ */
+public class ElementCache {
+    // Jumlah dari semua instance halaman, dilaporkan di System Info "Element Cache"
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+    private static final AtomicLong totalStale = new AtomicLong();
+
+    private final Map<Key, WebElement> elements = new HashMap<>();
+    private int hits;
+    private int misses;
+    private int stale;
+
+    /**
+     * Kunci cache: locator beserta kondisi yang dipenuhi elemen saat ditemukan
+     */
+    private static class Key {
+        private final By locator;
+        private final String condition;
+
+        private Key(By locator, String condition) {
+            this.locator = locator;
+            this.condition = condition;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return locator.equals(key.locator) && condition.equals(key.condition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locator, condition);
+        }
+    }
+
+    /**
+     * Metode untuk mengambil elemen dari cache
+     * @param locator locator elemen
+     * @param condition kondisi yang harus dipenuhi elemen, misalnya visible atau clickable
+     * @return elemen yang tersimpan, atau null jika belum ada
+     */
+    WebElement get(By locator, String condition) {
+        WebElement element = elements.get(new Key(locator, condition));
+        if (element != null) {
+            hits++;
+            totalHits.incrementAndGet();
+        } else {
+            misses++;
+            totalMisses.incrementAndGet();
+        }
+        return element;
+    }
+
+    void put(By locator, String condition, WebElement element) {
+        if (element != null) {
+            elements.put(new Key(locator, condition), element);
+        }
+    }
+
+    /**
+     * Metode untuk mencatat elemen yang sudah stale dan menghapusnya dari cache untuk semua kondisi
+     * @param locator locator elemen yang stale
+     */
+    void markStale(By locator) {
+        stale++;
+        totalStale.incrementAndGet();
+        elements.keySet().removeIf(key -> key.locator.equals(locator));
+    }
+
+    void clear() {
+        elements.clear();
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public int getStale() {
+        return stale;
+    }
+
+    /**
+     * Metode untuk mendapatkan ringkasan cache elemen dari semua halaman
+     * @return jumlah hit, miss, dan stale serta persentase hit
+     */
+    public static String getStatistics() {
+        long hit = totalHits.get();
+        long lookups = hit + totalMisses.get();
+        return "hit=" + hit + ", miss=" + totalMisses.get() + ", stale=" + totalStale.get()
+                + String.format(" (%.0f%% hit)", lookups == 0 ? 0.0 : 100.0 * hit / lookups);
+    }
+
+    @Override
+    public String toString() {
+        return "hit=" + hits + ", miss=" + misses + ", stale=" + stale;
+    }
+}
@@ -1,11 +1,14 @@
 package com.dicoding.test.pages;
 
+import com.dicoding.test.locators.OptimizedLocator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.util.Map;
+
 /**
  * HomePage merepresentasikan halaman utama website Dicoding
  * Kelas ini berisi semua elemen dan aksi yang dapat dilakukan di halaman utama
@@ -24,11 +27,18 @@ public class HomePage extends BasePage {
     private final By lainnyaMenuLocator = By.xpath("//a[text()='Lainnya']");
 
     // Perbaikan: Mengubah locator heroTitleLocator dan menambahkan locator baru
-    private final By logoLocator = By.xpath("//img[contains(@alt, 'Dicoding')]");
-    private final By learningPathSectionLocator = By
+    // Union dan XPath atribut memakai OptimizedLocator: cabang dicoba sesuai peluang cocok, XPath atribut dicari dengan CSS
+    private final By logoLocator = OptimizedLocator.xpath("//img[contains(@alt, 'Dicoding')]");
+    private final By learningPathSectionLocator = OptimizedLocator
             .xpath("//h2[contains(text(), 'Learning Path')] | //a[text()='Learning Path']");
     private final By telahDipercayaLocator = By.xpath("//*[contains(text(), 'Telah dipercaya')]");
 
+    // Elemen yang diperiksa bersamaan untuk verifikasi halaman dimuat
+    private final Map<String, By> pageLoadedLocators = Map.of(
+            "logo", logoLocator,
+            "learningPathSection", learningPathSectionLocator,
+            "learningPathMenu", learningPathMenuLocator);
+
     /**
      * Konstruktor untuk HomePage
      * 
@@ -47,18 +57,21 @@ public class HomePage extends BasePage {
      */
     public boolean isPageLoaded() {
         // Perbaikan: Menggunakan kombinasi dari beberapa elemen yang pasti ada di
-        // halaman utama
-        boolean logoDisplayed = isElementDisplayed(logoLocator);
-        boolean learningPathDisplayed = isElementDisplayed(learningPathSectionLocator)
-                || isElementDisplayed(learningPathMenuLocator);
-        boolean correctTitle = getPageTitle().contains("Dicoding Indonesia");
+        // halaman utama. Semua elemen dan judul diambil dalam satu snapshot,
+        // snapshot diulang sampai logo tampil
+        PageSnapshot snapshot = waitForSnapshot(pageLoadedLocators, s -> s.isVisible("logo"));
+        boolean logoDisplayed = snapshot.isVisible("logo");
+        boolean learningPathDisplayed = snapshot.isVisible("learningPathSection")
+                || snapshot.isVisible("learningPathMenu");
+        boolean correctTitle = snapshot.getTitle().contains("Dicoding Indonesia");
 
         // Cukup verifikasi bahwa logo ada dan judul halaman benar
         boolean isLoaded = logoDisplayed && correctTitle;
 
-        logger.info("Verifikasi halaman utama dimuat: " + isLoaded);
-        logger.info("Logo ditampilkan: " + logoDisplayed);
-        logger.info("Judul halaman mengandung 'Dicoding Indonesia': " + correctTitle);
+        logger.info("Verifikasi halaman utama dimuat: {}", isLoaded);
+        logger.info("Logo ditampilkan: {}", logoDisplayed);
+        logger.info("Learning Path ditampilkan: {}", learningPathDisplayed);
+        logger.info("Judul halaman mengandung 'Dicoding Indonesia': {}", correctTitle);
 
         return isLoaded;
     }
@@ -102,10 +115,10 @@ public class HomePage extends BasePage {
      * @return instance SearchResultPage
      */
     public SearchResultPage search(String keyword) {
-        logger.info("Melakukan pencarian dengan kata kunci: " + keyword);
+        logger.info("Melakukan pencarian dengan kata kunci: {}", keyword);
         type(searchInputLocator, keyword);
-        // Tekan Enter untuk melakukan pencarian
-        driver.findElement(searchInputLocator).submit();
+        // Submit form pencarian memakai elemen yang sama dari cache
+        submit(searchInputLocator);
         return new SearchResultPage(driver, wait);
     }
 
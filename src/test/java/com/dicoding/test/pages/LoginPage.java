@@ -6,6 +6,8 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.util.Map;
+
 /**
  * LoginPage merepresentasikan halaman login website Dicoding
  * Kelas ini berisi semua elemen dan aksi yang dapat dilakukan di halaman login
@@ -24,6 +26,12 @@ public class LoginPage extends BasePage {
     private final By rememberMeCheckboxLocator = By.xpath("//label[text()='Remember me']");
     private final By googleLoginButtonLocator = By.xpath("//a[text()='Masuk dengan Google']");
     
+    // Elemen yang diperiksa bersamaan untuk verifikasi modal login dimuat
+    private final Map<String, By> pageLoadedLocators = Map.of(
+            "modalTitle", modalTitleLocator,
+            "emailInput", emailInputLocator,
+            "passwordInput", passwordInputLocator);
+    
     /**
      * Konstruktor untuk LoginPage
      * @param driver instance WebDriver
@@ -39,10 +47,12 @@ public class LoginPage extends BasePage {
      * @return true jika modal login sudah dimuat, false jika tidak
      */
     public boolean isPageLoaded() {
-        boolean isLoaded = isElementDisplayed(modalTitleLocator) && 
-                          isElementDisplayed(emailInputLocator) && 
-                          isElementDisplayed(passwordInputLocator);
-        logger.info("Verifikasi modal login dimuat: " + isLoaded);
+        // Tunggu modal muncul, judul dan input diperiksa dalam satu snapshot
+        PageSnapshot snapshot = waitForSnapshot(pageLoadedLocators, s -> s.isVisible("modalTitle"));
+        boolean isLoaded = snapshot.isVisible("modalTitle") && 
+                          snapshot.isVisible("emailInput") && 
+                          snapshot.isVisible("passwordInput");
+        logger.info("Verifikasi modal login dimuat: {}", isLoaded);
         return isLoaded;
     }
     
@@ -52,7 +62,7 @@ public class LoginPage extends BasePage {
      * @return instance LoginPage (this)
      */
     public LoginPage enterEmail(String email) {
-        logger.info("Mengisi email: " + email);
+        logger.info("Mengisi email: {}", email);
         type(emailInputLocator, email);
         return this;
     }
@@ -85,7 +95,7 @@ public class LoginPage extends BasePage {
      * @return instance DashboardPage (belum diimplementasikan)
      */
     public void login(String email, String password) {
-        logger.info("Melakukan login dengan email: " + email);
+        logger.info("Melakukan login dengan email: {}", email);
         enterEmail(email);
         enterPassword(password);
         clickLoginButton();
@@ -0,0 +1,124 @@
+package com.dicoding.test.pages;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PageSnapshot menyimpan kondisi beberapa elemen halaman beserta judul dan URL
+ * yang diambil dalam satu kali eksekusi JavaScript (lihat BasePage.takeSnapshot)
+ */
+public class PageSnapshot {
+    private final String title;
+    private final String url;
+    private final Map<String, ElementState> elements;
+
+    /**
+     * Kondisi satu elemen di dalam snapshot
+     */
+    public static class ElementState {
+        private static final ElementState ABSENT = new ElementState(false, false, "", Collections.emptyMap());
+
+        private final boolean present;
+        private final boolean visible;
+        private final String text;
+        private final Map<String, String> attributes;
+
+        ElementState(boolean present, boolean visible, String text, Map<String, String> attributes) {
+            this.present = present;
+            this.visible = visible;
+            this.text = text;
+            this.attributes = attributes;
+        }
+
+        public boolean isPresent() {
+            return present;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public String toString() {
+            return "present=" + present + ", visible=" + visible + ", text='" + text + "'";
+        }
+    }
+
+    PageSnapshot(String title, String url, Map<String, ElementState> elements) {
+        this.title = title;
+        this.url = url;
+        this.elements = elements;
+    }
+
+    /**
+     * Metode untuk membuat snapshot dari hasil executeScript
+     * @param raw hasil script berupa map title, url, dan elements
+     * @return instance PageSnapshot
+     */
+    @SuppressWarnings("unchecked")
+    static PageSnapshot fromScriptResult(Map<String, Object> raw) {
+        Map<String, ElementState> elements = new HashMap<>();
+        Map<String, Object> rawElements = (Map<String, Object>) raw.get("elements");
+        for (Map.Entry<String, Object> entry : rawElements.entrySet()) {
+            Map<String, Object> rawElement = (Map<String, Object>) entry.getValue();
+            Map<String, String> attributes = new HashMap<>();
+            Map<String, Object> rawAttributes = (Map<String, Object>) rawElement.get("attributes");
+            if (rawAttributes != null) {
+                rawAttributes.forEach((name, value) -> attributes.put(name, String.valueOf(value)));
+            }
+            elements.put(entry.getKey(), new ElementState(
+                    Boolean.TRUE.equals(rawElement.get("present")),
+                    Boolean.TRUE.equals(rawElement.get("visible")),
+                    rawElement.get("text") == null ? "" : String.valueOf(rawElement.get("text")),
+                    attributes));
+        }
+        return new PageSnapshot(String.valueOf(raw.get("title")), String.valueOf(raw.get("url")), elements);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Metode untuk mendapatkan kondisi elemen berdasarkan nama
+     * @param name nama elemen yang diberikan saat mengambil snapshot
+     * @return kondisi elemen, atau kondisi "tidak ada" jika nama tidak dikenal
+     */
+    public ElementState get(String name) {
+        return elements.getOrDefault(name, ElementState.ABSENT);
+    }
+
+    public boolean isPresent(String name) {
+        return get(name).isPresent();
+    }
+
+    public boolean isVisible(String name) {
+        return get(name).isVisible();
+    }
+
+    public String getText(String name) {
+        return get(name).getText();
+    }
+
+    public String getAttribute(String name, String attribute) {
+        return get(name).getAttributes().get(attribute);
+    }
+
+    @Override
+    public String toString() {
+        return "PageSnapshot{title='" + title + "', url='" + url + "', elements=" + elements + "}";
+    }
+}
@@ -1,5 +1,7 @@
 package com.dicoding.test.pages;
 
+import com.dicoding.test.locators.OptimizedLocator;
+import com.dicoding.test.utils.TestConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
@@ -7,8 +9,11 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SearchResultPage merepresentasikan halaman hasil pencarian website Dicoding
@@ -18,12 +23,20 @@ import java.util.List;
 public class SearchResultPage extends BasePage {
     private static final Logger logger = LogManager.getLogger(SearchResultPage.class);
 
+    // Batas waktu membaca judul dan pesan error yang muncul sedikit setelah halaman 404 tampil
+    private static final Duration ERROR_PROBE_BUDGET = Duration.ofSeconds(2);
+
     // Locator untuk elemen-elemen di halaman hasil pencarian atau halaman 404
-    private final By errorTitleLocator = By.xpath("//h1[contains(text(), 'Oppps')] | //h1[contains(text(), 'Oops')]");
-    private final By errorMessageLocator = By
+    private final By errorTitleLocator = OptimizedLocator.xpath("//h1[contains(text(), 'Oppps')] | //h1[contains(text(), 'Oops')]");
+    private final By errorMessageLocator = OptimizedLocator
             .xpath("//*[contains(text(), 'Sudah aku cari')] | //*[contains(text(), 'tidak ditemukan')]");
     private final By searchInputLocator = By.cssSelector("input[placeholder='Apa yang ingin Anda pelajari?']");
-    private final By logoLocator = By.xpath("//a/img[@alt='Dicoding Indonesia'] | //img[contains(@alt, 'Dicoding')]");
+    private final By logoLocator = OptimizedLocator.xpath("//a/img[@alt='Dicoding Indonesia'] | //img[contains(@alt, 'Dicoding')]");
+
+    // Elemen yang diperiksa bersamaan untuk verifikasi halaman 404
+    private final Map<String, By> errorPageLocators = Map.of(
+            "errorTitle", errorTitleLocator,
+            "errorMessage", errorMessageLocator);
 
     /**
      * Konstruktor untuk SearchResultPage
@@ -38,30 +51,35 @@ public class SearchResultPage extends BasePage {
 
     /**
      * Metode untuk memverifikasi apakah halaman hasil pencarian sudah dimuat
+     * Logo juga tampil di halaman utama, jadi ditunggu sampai URL berpindah dari halaman utama
      * 
      * @return true jika halaman hasil pencarian sudah dimuat, false jika tidak
      */
     public boolean isPageLoaded() {
         // Karena halaman pencarian bisa mengarah ke hasil atau 404, kita verifikasi
         // salah satu
-        boolean logoVisible = isElementDisplayed(logoLocator);
-        boolean correctUrl = getCurrentUrl().contains("dicoding.com");
+        PageSnapshot snapshot = waitForSnapshot(Map.of("logo", logoLocator),
+                s -> s.isVisible("logo") && !isHomeUrl(s.getUrl()));
+        boolean logoVisible = snapshot.isVisible("logo");
+        boolean correctUrl = TestConfig.isOnSite(snapshot.getUrl()) && !isHomeUrl(snapshot.getUrl());
 
         boolean isLoaded = logoVisible && correctUrl;
-        logger.info("Verifikasi halaman hasil pencarian dimuat: " + isLoaded);
+        logger.info("Verifikasi halaman hasil pencarian dimuat: {}", isLoaded);
         return isLoaded;
     }
 
     /**
      * Metode untuk memeriksa apakah halaman 404 ditampilkan
+     * Menunggu sampai judul atau pesan error tampil, jadi hanya cocok untuk memastikan halaman 404 muncul
      * 
-     * @return true jika halaman 404 ditampilkan, false jika tidak
+     * @return true jika halaman 404 ditampilkan sebelum timeout, false jika tidak
      */
     public boolean isErrorPageDisplayed() {
-        boolean isErrorTitle = isElementDisplayed(errorTitleLocator);
-        boolean isErrorMessage = isElementDisplayed(errorMessageLocator);
-        boolean isErrorPage = isErrorTitle || isErrorMessage;
-        logger.info("Verifikasi halaman 404 ditampilkan: " + isErrorPage);
+        // Judul dan pesan error diperiksa bersamaan dalam satu snapshot per percobaan
+        PageSnapshot snapshot = waitForSnapshot(errorPageLocators,
+                s -> s.isVisible("errorTitle") || s.isVisible("errorMessage"));
+        boolean isErrorPage = snapshot.isVisible("errorTitle") || snapshot.isVisible("errorMessage");
+        logger.info("Verifikasi halaman 404 ditampilkan: {}", isErrorPage);
         return isErrorPage;
     }
 
@@ -71,7 +89,7 @@ public class SearchResultPage extends BasePage {
      * @return teks judul error
      */
     public String getErrorTitle() {
-        if (isElementDisplayed(errorTitleLocator)) {
+        if (isElementDisplayed(errorTitleLocator, ERROR_PROBE_BUDGET)) {
             return getText(errorTitleLocator);
         }
         return "";
@@ -83,7 +101,7 @@ public class SearchResultPage extends BasePage {
      * @return pesan error
      */
     public String getErrorMessage() {
-        if (isElementDisplayed(errorMessageLocator)) {
+        if (isElementDisplayed(errorMessageLocator, ERROR_PROBE_BUDGET)) {
             return getText(errorMessageLocator);
         }
         return "";
@@ -96,9 +114,9 @@ public class SearchResultPage extends BasePage {
      * @return instance SearchResultPage (this)
      */
     public SearchResultPage searchAgain(String keyword) {
-        logger.info("Melakukan pencarian baru dengan kata kunci: " + keyword);
+        logger.info("Melakukan pencarian baru dengan kata kunci: {}", keyword);
         type(searchInputLocator, keyword);
-        driver.findElement(searchInputLocator).submit();
+        submit(searchInputLocator);
         return this;
     }
 
@@ -110,6 +128,25 @@ public class SearchResultPage extends BasePage {
     public HomePage goToHomePage() {
         logger.info("Kembali ke halaman utama");
         click(logoLocator);
+        invalidateElementCache();
         return new HomePage(driver, wait);
     }
-}
\ No newline at end of file
+
+    /**
+     * Metode untuk memeriksa apakah URL adalah halaman utama (path base URL tanpa query)
+     */
+    private static boolean isHomeUrl(String url) {
+        try {
+            URI uri = URI.create(url);
+            String path = uri.getPath() == null ? "" : uri.getPath();
+            String homePath = URI.create(TestConfig.getBaseUrl()).getPath();
+            return uri.getQuery() == null && trimSlash(path).equals(trimSlash(homePath == null ? "" : homePath));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String trimSlash(String path) {
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+}
@@ -0,0 +1,268 @@
+package com.dicoding.test.report;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonlReportRenderer membuat tampilan HTML dari file JSONL JsonlReporter
+ * File JSONL dibaca baris per baris dan setiap halaman HTML hanya berisi sejumlah test,
+ * sehingga suite dengan ribuan test tetap dapat dirender dan dibuka tanpa memuat semua hasil sekaligus.
+ * Dapat juga dijalankan langsung untuk merender hasil suite yang berhenti di tengah jalan
+ */
+public class JsonlReportRenderer {
+    private static final Logger logger = LogManager.getLogger(JsonlReportRenderer.class);
+    private static final Json JSON = new Json();
+    // Jumlah maksimum test gagal yang didaftar di halaman ringkasan
+    private static final int MAX_LISTED_FAILURES = 500;
+
+    private static final String STYLE = "<style>"
+            + "body{font-family:sans-serif;margin:24px;color:#222}"
+            + "table{border-collapse:collapse;width:100%}"
+            + "td,th{border-bottom:1px solid #ddd;padding:6px;text-align:left;vertical-align:top}"
+            + ".PASS{color:#2e7d32}.FAIL{color:#c62828}.SKIP{color:#f9a825}"
+            + "pre{white-space:pre-wrap;background:#f6f6f6;padding:8px}"
+            + "img{max-width:480px;display:block;margin:4px 0}"
+            + "</style>";
+
+    private final Path outputDir;
+    private final String baseName;
+    private final int pageSize;
+
+    // Ringkasan yang dikumpulkan selama membaca; hanya berisi angka dan daftar terbatas
+    private final Map<String, Long> statusCounts = new LinkedHashMap<>();
+    private final List<long[]> pageCounts = new ArrayList<>();
+    private final List<String[]> failures = new ArrayList<>();
+    private Map<String, Object> systemInfo = Map.of();
+    private long tests;
+    private long totalMillis;
+    private long invalidLines;
+
+    /**
+     * Konstruktor untuk JsonlReportRenderer
+     * @param outputDir direktori HTML, sebaiknya direktori yang sama dengan screenshot dan HAR agar tautannya berlaku
+     * @param baseName nama dasar file HTML, misalnya results menghasilkan results.html dan results-1.html
+     * @param pageSize jumlah test per halaman
+     */
+    public JsonlReportRenderer(Path outputDir, String baseName, int pageSize) {
+        this.outputDir = outputDir;
+        this.baseName = baseName;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * Metode untuk merender file JSONL
+     * @param jsonl file JSONL hasil test
+     * @return file HTML ringkasan
+     * @throws IOException jika file tidak dapat dibaca atau ditulis
+     */
+    public Path render(Path jsonl) throws IOException {
+        Files.createDirectories(outputDir);
+        Writer page = null;
+        long onPage = 0;
+        try (BufferedReader reader = Files.newBufferedReader(jsonl, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Map<String, Object> record = parse(line);
+                if (record == null) {
+                    continue;
+                }
+                if ("system".equals(record.get("type"))) {
+                    systemInfo = asMap(record.get("info"));
+                    continue;
+                }
+                // Halaman penuh baru ditutup saat ada test berikutnya, agar tautan ke halaman kosong tidak dibuat
+                if (page != null && onPage >= pageSize) {
+                    closePage(page, pageCounts.size(), true);
+                    page = null;
+                }
+                if (page == null) {
+                    pageCounts.add(new long[2]);
+                    page = openPage(pageCounts.size());
+                    onPage = 0;
+                }
+                writeTest(page, record);
+                onPage++;
+            }
+        } finally {
+            if (page != null) {
+                closePage(page, pageCounts.size(), false);
+            }
+        }
+        if (invalidLines > 0) {
+            logger.warn("{} baris JSONL tidak valid dilewati, kemungkinan suite berhenti saat menulis", invalidLines);
+        }
+        Path index = writeIndex();
+        logger.info("Report {} test dari {} dirender ke {}", tests, jsonl, index);
+        return index;
+    }
+
+    /**
+     * Merender file JSONL tanpa menjalankan suite
+     * Argumen: [file JSONL, default test-output/results.jsonl] [jumlah test per halaman, default 200]
+     */
+    public static void main(String[] args) throws IOException {
+        Path jsonl = Paths.get(args.length > 0 ? args[0] : "test-output/results.jsonl");
+        int pageSize = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        String fileName = jsonl.getFileName().toString();
+        String baseName = fileName.endsWith(".jsonl") ? fileName.substring(0, fileName.length() - 6) : fileName;
+        Path outputDir = jsonl.toAbsolutePath().getParent();
+        System.out.println(new JsonlReportRenderer(outputDir, baseName, pageSize).render(jsonl));
+    }
+
+    private Map<String, Object> parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return JSON.toType(line, Json.MAP_TYPE);
+        } catch (JsonException | ClassCastException e) {
+            invalidLines++;
+            return null;
+        }
+    }
+
+    private Writer openPage(int number) throws IOException {
+        Writer page = Files.newBufferedWriter(outputDir.resolve(pageFile(number)), StandardCharsets.UTF_8);
+        page.write("<!DOCTYPE html><html><head><meta charset='utf-8'><title>Hasil Test - Halaman " + number
+                + "</title>" + STYLE + "</head><body>");
+        page.write("<p><a href='" + baseName + ".html'>Ringkasan</a></p><h2>Halaman " + number + "</h2>");
+        page.write("<table><tr><th>#</th><th>Status</th><th>Test</th><th>Durasi</th></tr>");
+        return page;
+    }
+
+    private void closePage(Writer page, int number, boolean hasNext) throws IOException {
+        try {
+            page.write("</table><p>");
+            if (number > 1) {
+                page.write("<a href='" + pageFile(number - 1) + "'>&laquo; Sebelumnya</a> ");
+            }
+            if (hasNext) {
+                page.write("<a href='" + pageFile(number + 1) + "'>Berikutnya &raquo;</a>");
+            }
+            page.write("</p></body></html>");
+        } finally {
+            page.close();
+        }
+    }
+
+    private void writeTest(Writer page, Map<String, Object> record) throws IOException {
+        tests++;
+        String status = String.valueOf(record.getOrDefault("status", "UNKNOWN"));
+        long duration = asLong(record.get("durationMillis"));
+        String name = String.valueOf(record.get("name"));
+        statusCounts.merge(status, 1L, Long::sum);
+        totalMillis += duration;
+        long[] counts = pageCounts.get(pageCounts.size() - 1);
+        counts[0]++;
+        if ("FAIL".equals(status)) {
+            counts[1]++;
+            if (failures.size() < MAX_LISTED_FAILURES) {
+                failures.add(new String[]{name, pageFile(pageCounts.size()) + "#t" + tests});
+            }
+        }
+
+        StringBuilder row = new StringBuilder();
+        row.append("<tr id='t").append(tests).append("'><td>").append(tests).append("</td>")
+                .append("<td class='").append(escape(status)).append("'>").append(escape(status)).append("</td><td>")
+                .append("<details><summary>").append(escape(name)).append("</summary>")
+                .append("<p>").append(escape(record.get("class") + "." + record.get("method")))
+                .append(" &middot; ").append(escape(String.valueOf(record.get("thread")))).append("</p>");
+        if (record.get("description") != null) {
+            row.append("<p>").append(escape(String.valueOf(record.get("description")))).append("</p>");
+        }
+        // Detail log berasal dari ExtentTest dan sudah berupa HTML, sama seperti yang ditampilkan Extent Report
+        for (Object item : asList(record.get("logs"))) {
+            Map<String, Object> log = asMap(item);
+            String logStatus = String.valueOf(log.get("status")).toUpperCase();
+            row.append("<div><b class='").append(escape(logStatus)).append("'>").append(escape(logStatus))
+                    .append("</b> ").append(log.get("details") == null ? "" : log.get("details")).append("</div>");
+        }
+        for (Object media : asList(record.get("media"))) {
+            String path = escape(String.valueOf(media));
+            row.append("<a href='").append(path).append("'><img loading='lazy' src='").append(path).append("'></a>");
+        }
+        Map<String, Object> error = asMap(record.get("error"));
+        if (!error.isEmpty()) {
+            row.append("<pre>").append(escape(String.valueOf(error.get("stackTrace")))).append("</pre>");
+        }
+        row.append("</details></td><td>").append(duration).append(" ms</td></tr>");
+        page.write(row.toString());
+    }
+
+    private Path writeIndex() throws IOException {
+        Path index = outputDir.resolve(baseName + ".html");
+        try (Writer out = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            out.write("<!DOCTYPE html><html><head><meta charset='utf-8'><title>Hasil Test</title>" + STYLE
+                    + "</head><body><h1>Hasil Test</h1>");
+            out.write("<p>" + tests + " test, total durasi " + totalMillis / 1000 + " detik</p><table>");
+            for (Map.Entry<String, Long> entry : statusCounts.entrySet()) {
+                out.write("<tr><td class='" + escape(entry.getKey()) + "'>" + escape(entry.getKey()) + "</td><td>"
+                        + entry.getValue() + "</td></tr>");
+            }
+            out.write("</table>");
+
+            if (!failures.isEmpty()) {
+                out.write("<h2>Test Gagal</h2><ul>");
+                for (String[] failure : failures) {
+                    out.write("<li><a href='" + failure[1] + "'>" + escape(failure[0]) + "</a></li>");
+                }
+                out.write("</ul>");
+            }
+
+            out.write("<h2>Halaman</h2><table><tr><th>Halaman</th><th>Test</th><th>Gagal</th></tr>");
+            for (int i = 0; i < pageCounts.size(); i++) {
+                long[] counts = pageCounts.get(i);
+                out.write("<tr><td><a href='" + pageFile(i + 1) + "'>" + (i + 1) + "</a></td><td>" + counts[0]
+                        + "</td><td>" + counts[1] + "</td></tr>");
+            }
+            out.write("</table>");
+
+            if (!systemInfo.isEmpty()) {
+                out.write("<h2>System Info</h2><table>");
+                for (Map.Entry<String, Object> entry : systemInfo.entrySet()) {
+                    out.write("<tr><td>" + escape(entry.getKey()) + "</td><td>"
+                            + escape(String.valueOf(entry.getValue())) + "</td></tr>");
+                }
+                out.write("</table>");
+            }
+            out.write("</body></html>");
+        }
+        return index;
+    }
+
+    private String pageFile(int number) {
+        return baseName + "-" + number + ".html";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static List<?> asList(Object value) {
+        return value instanceof List ? (List<?>) value : List.of();
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("'", "&#39;").replace("\"", "&quot;");
+    }
+}
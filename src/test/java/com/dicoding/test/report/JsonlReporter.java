@@ -0,0 +1,174 @@
+package com.dicoding.test.report;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Media;
+import com.aventstack.extentreports.model.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ITestResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonlReporter menulis hasil setiap test sebagai satu baris JSON segera setelah test selesai
+ * Setiap baris langsung di-flush ke file, sehingga hasil test yang sudah selesai tetap ada meskipun JVM berhenti
+ * di tengah suite, dan tidak ada hasil test yang perlu disimpan di memori
+ */
+public class JsonlReporter implements Closeable {
+    private static final Logger logger = LogManager.getLogger(JsonlReporter.class);
+    private static final Json JSON = new Json();
+    // Batas panjang stack trace per test agar satu baris JSONL tetap kecil
+    private static final int MAX_STACK_TRACE = 8000;
+
+    private final Path file;
+    private final Writer writer;
+    private long records;
+
+    /**
+     * Konstruktor untuk JsonlReporter, file lama dengan nama yang sama ditimpa
+     * @param file file JSONL tujuan
+     * @throws IOException jika file tidak dapat dibuat
+     */
+    public JsonlReporter(Path file) throws IOException {
+        this.file = file;
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Metode untuk menulis hasil satu test
+     * @param result hasil test dari TestNG
+     * @param test node report test, boleh null jika test tidak membuat node
+     */
+    public void writeTest(ITestResult result, ExtentTest test) {
+        write(toRecord(result, test));
+    }
+
+    /**
+     * Metode untuk menulis informasi sistem suite, biasanya di akhir suite
+     * @param systemInfo pasangan nama dan nilai informasi sistem
+     */
+    public void writeSystemInfo(Map<String, String> systemInfo) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("type", "system");
+        record.put("info", systemInfo);
+        write(record);
+    }
+
+    /**
+     * Metode untuk menulis satu record sebagai satu baris JSON lalu flush ke file
+     * @param record isi record
+     */
+    public synchronized void write(Map<String, Object> record) {
+        StringBuilder line = new StringBuilder();
+        JSON.newOutput(line).setPrettyPrint(false).write(record).close();
+        try {
+            writer.write(line.append('\n').toString());
+            writer.flush();
+            records++;
+        } catch (IOException e) {
+            logger.error("Gagal menulis hasil test ke {}", file, e);
+        }
+    }
+
+    public synchronized long getRecordCount() {
+        return records;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+            logger.info("{} record hasil test disimpan ke {}", records, file);
+        } catch (IOException e) {
+            logger.error("Gagal menutup {}", file, e);
+        }
+    }
+
+    private static Map<String, Object> toRecord(ITestResult result, ExtentTest test) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("type", "test");
+        Test model = test != null ? test.getModel() : null;
+        record.put("name", model != null ? model.getName() : result.getName());
+        record.put("description", model != null ? model.getDescription() : result.getMethod().getDescription());
+        record.put("class", result.getTestClass().getName());
+        record.put("method", result.getName());
+        record.put("status", toStatus(result.getStatus()));
+        record.put("start", result.getStartMillis());
+        record.put("durationMillis", result.getEndMillis() - result.getStartMillis());
+        record.put("thread", Thread.currentThread().getName());
+
+        Throwable throwable = result.getThrowable();
+        if (throwable != null) {
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("type", throwable.getClass().getName());
+            error.put("message", throwable.getMessage());
+            error.put("stackTrace", stackTrace(throwable));
+            record.put("error", error);
+        }
+
+        if (model != null) {
+            List<Object> logs = new ArrayList<>();
+            for (Log log : model.getLogs()) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("status", log.getStatus().toString());
+                entry.put("time", log.getTimestamp().getTime());
+                entry.put("details", log.getDetails());
+                if (log.getMedia() != null) {
+                    entry.put("media", log.getMedia().getPath());
+                }
+                logs.add(entry);
+            }
+            record.put("logs", logs);
+
+            List<Object> media = new ArrayList<>();
+            for (Media item : model.getMedia()) {
+                media.add(item.getPath());
+            }
+            record.put("media", media);
+        }
+        return record;
+    }
+
+    private static String toStatus(int status) {
+        switch (status) {
+            case ITestResult.SUCCESS:
+                return "PASS";
+            case ITestResult.FAILURE:
+            case ITestResult.SUCCESS_PERCENTAGE_FAILURE:
+                return "FAIL";
+            case ITestResult.SKIP:
+                return "SKIP";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    private static String stackTrace(Throwable throwable) {
+        StringWriter trace = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(trace));
+        String text = trace.toString();
+        return text.length() > MAX_STACK_TRACE ? text.substring(0, MAX_STACK_TRACE) + "\n\t..." : text;
+    }
+}
@@ -0,0 +1,236 @@
+package com.dicoding.test.sharding;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DurationHistory membaca durasi dan hasil setiap test method dari file testng-results.xml run sebelumnya
+ * Durasi satu method adalah jumlah semua invocation-nya dalam satu run (misalnya dari data provider),
+ * lalu dirata-rata antar run. Method tanpa riwayat diperkirakan dengan median durasi method yang diketahui
+ */
+public class DurationHistory {
+    private static final Logger logger = LogManager.getLogger(DurationHistory.class);
+
+    public static final String RESULTS_FILE = "testng-results.xml";
+    public static final String DEFAULT_LOCATIONS = ".cache/test-history";
+    private static final String RUN_PREFIX = "run-";
+    // Perkiraan durasi jika belum ada riwayat sama sekali
+    private static final long DEFAULT_MILLIS = 10_000;
+
+    private final Map<String, Long> totalMillis = new HashMap<>();
+    private final Map<String, Integer> runs = new HashMap<>();
+    // Hasil method pada run terbaru yang menjalankannya
+    private final Map<String, Boolean> lastFailed = new HashMap<>();
+    private long fallbackMillis = DEFAULT_MILLIS;
+
+    /**
+     * Metode untuk membaca riwayat durasi
+     * @param locations daftar file testng-results.xml atau direktori yang dicari secara rekursif, dipisah koma
+     * @return riwayat durasi, kosong jika tidak ada file yang ditemukan
+     */
+    public static DurationHistory load(String locations) {
+        DurationHistory history = new DurationHistory();
+        int files = 0;
+        for (String location : locations.split(",")) {
+            if (location.isBlank()) {
+                continue;
+            }
+            for (Path file : findResults(Paths.get(location.trim()))) {
+                try {
+                    history.read(file);
+                    files++;
+                } catch (IOException | XMLStreamException e) {
+                    logger.warn("Riwayat durasi {} tidak dapat dibaca", file, e);
+                }
+            }
+        }
+        history.updateFallback();
+        logger.info("Riwayat durasi {} method dibaca dari {} file", history.totalMillis.size(), files);
+        return history;
+    }
+
+    /**
+     * Metode untuk mendapatkan perkiraan durasi sebuah method
+     * @param qualifiedName nama kelas dan method, misalnya com.dicoding.test.tests.LoginTest.testLoginPageDisplay
+     * @return rata-rata durasi dalam milidetik, atau median durasi method lain jika belum ada riwayat
+     */
+    public long getExpectedMillis(String qualifiedName) {
+        Long total = totalMillis.get(qualifiedName);
+        return total == null ? fallbackMillis : total / runs.get(qualifiedName);
+    }
+
+    /**
+     * @return true jika method pernah tercatat di riwayat
+     */
+    public boolean isKnown(String qualifiedName) {
+        return totalMillis.containsKey(qualifiedName);
+    }
+
+    /**
+     * @return true jika method gagal pada run terbaru yang menjalankannya
+     */
+    public boolean isRecentlyFailed(String qualifiedName) {
+        return lastFailed.getOrDefault(qualifiedName, false);
+    }
+
+    /**
+     * Metode untuk menyimpan hasil satu run sebagai testng-results.xml di direktori riwayat
+     * Hanya run terbaru sebanyak keepRuns yang disimpan, sehingga rata-rata durasi mengikuti kondisi terkini
+     * @param dir direktori riwayat
+     * @param results hasil setiap invocation test method
+     * @param keepRuns jumlah run yang disimpan
+     */
+    public static void writeRun(Path dir, List<Result> results, int keepRuns) throws IOException {
+        Map<String, List<Result>> byClass = new TreeMap<>();
+        for (Result result : results) {
+            byClass.computeIfAbsent(result.className, k -> new ArrayList<>()).add(result);
+        }
+        Path runDir = dir.resolve(RUN_PREFIX + System.currentTimeMillis());
+        Files.createDirectories(runDir);
+        try (Writer out = Files.newBufferedWriter(runDir.resolve(RESULTS_FILE), StandardCharsets.UTF_8)) {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(out);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("testng-results");
+            xml.writeAttribute("total", String.valueOf(results.size()));
+            for (Map.Entry<String, List<Result>> entry : byClass.entrySet()) {
+                xml.writeStartElement("class");
+                xml.writeAttribute("name", entry.getKey());
+                for (Result result : entry.getValue()) {
+                    xml.writeEmptyElement("test-method");
+                    xml.writeAttribute("name", result.methodName);
+                    xml.writeAttribute("status", result.status);
+                    xml.writeAttribute("duration-ms", String.valueOf(result.durationMillis));
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Gagal menulis riwayat durasi ke " + runDir, e);
+        }
+
+        List<Path> previous;
+        try (Stream<Path> dirs = Files.list(dir)) {
+            previous = dirs.filter(path -> path.getFileName().toString().startsWith(RUN_PREFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (int i = 0; i < previous.size() - Math.max(1, keepRuns); i++) {
+            Files.deleteIfExists(previous.get(i).resolve(RESULTS_FILE));
+            Files.deleteIfExists(previous.get(i));
+        }
+    }
+
+    /**
+     * Hasil satu invocation test method
+     */
+    public static class Result {
+        private final String className;
+        private final String methodName;
+        private final String status;
+        private final long durationMillis;
+
+        /**
+         * @param status PASS, FAIL, atau SKIP seperti di testng-results.xml
+         */
+        public Result(String className, String methodName, String status, long durationMillis) {
+            this.className = className;
+            this.methodName = methodName;
+            this.status = status;
+            this.durationMillis = durationMillis;
+        }
+    }
+
+    private void read(Path file) throws IOException, XMLStreamException {
+        Map<String, Long> run = new HashMap<>();
+        Map<String, Boolean> failed = new HashMap<>();
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            String className = null;
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if ("class".equals(reader.getLocalName())) {
+                    className = reader.getAttributeValue(null, "name");
+                } else if ("test-method".equals(reader.getLocalName()) && className != null
+                        && !"true".equals(reader.getAttributeValue(null, "is-config"))) {
+                    String key = className + "." + reader.getAttributeValue(null, "name");
+                    String duration = reader.getAttributeValue(null, "duration-ms");
+                    if (duration != null) {
+                        run.merge(key, Long.parseLong(duration), Long::sum);
+                    }
+                    failed.merge(key, "FAIL".equals(reader.getAttributeValue(null, "status")), Boolean::logicalOr);
+                }
+            }
+            reader.close();
+        }
+        run.forEach((key, millis) -> {
+            totalMillis.merge(key, millis, Long::sum);
+            runs.merge(key, 1, Integer::sum);
+        });
+        lastFailed.putAll(failed);
+    }
+
+    private void updateFallback() {
+        List<Long> known = new ArrayList<>();
+        for (String key : totalMillis.keySet()) {
+            known.add(getExpectedMillis(key));
+        }
+        if (!known.isEmpty()) {
+            known.sort(null);
+            fallbackMillis = known.get(known.size() / 2);
+        }
+    }
+
+    private static List<Path> findResults(Path location) {
+        if (Files.isRegularFile(location)) {
+            return List.of(location);
+        }
+        if (!Files.isDirectory(location)) {
+            return List.of();
+        }
+        // Urut dari yang terlama agar hasil run terbaru menimpa hasil sebelumnya
+        try (Stream<Path> files = Files.walk(location)) {
+            return files.filter(path -> path.getFileName().toString().equals(RESULTS_FILE))
+                    .sorted(Comparator.comparing(DurationHistory::lastModified).thenComparing(Comparator.naturalOrder()))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warn("Direktori riwayat {} tidak dapat dibaca", location, e);
+            return List.of();
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.dicoding.test.sharding;
+
+import com.dicoding.test.report.JsonlReportRenderer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ShardMerger menggabungkan hasil semua shard menjadi satu report
+ * File testng-results.xml digabung menjadi satu (sekaligus menjadi riwayat durasi untuk run berikutnya),
+ * file results.jsonl disambung lalu dirender menjadi results.html
+ */
+public class ShardMerger {
+    private static final Logger logger = LogManager.getLogger(ShardMerger.class);
+
+    private static final String JSONL_FILE = "results.jsonl";
+    private static final String[] COUNTS = {"total", "passed", "failed", "skipped", "ignored"};
+
+    private ShardMerger() {
+    }
+
+    /**
+     * Menggabungkan hasil shard
+     * Argumen: [direktori output] [direktori hasil shard...], setiap direktori shard dicari secara rekursif
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Penggunaan: ShardMerger <direktori output> <direktori shard>...");
+            System.exit(2);
+        }
+        Path outputDir = Paths.get(args[0]);
+        List<Path> shardDirs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            shardDirs.add(Paths.get(args[i]));
+        }
+        Files.createDirectories(outputDir);
+        verifyPlans(find(shardDirs, ShardPlanner.PLAN_FILE));
+
+        List<Path> xmlFiles = find(shardDirs, DurationHistory.RESULTS_FILE);
+        if (!xmlFiles.isEmpty()) {
+            mergeXml(xmlFiles, outputDir.resolve(DurationHistory.RESULTS_FILE));
+        }
+        List<Path> jsonlFiles = find(shardDirs, JSONL_FILE);
+        if (!jsonlFiles.isEmpty()) {
+            Path jsonl = outputDir.resolve(JSONL_FILE);
+            mergeJsonl(jsonlFiles, jsonl);
+            System.out.println(new JsonlReportRenderer(outputDir, "results", 200).render(jsonl));
+        }
+        logger.info("{} testng-results.xml dan {} results.jsonl digabung ke {}",
+                xmlFiles.size(), jsonlFiles.size(), outputDir);
+    }
+
+    /**
+     * Metode untuk menggabungkan beberapa testng-results.xml: jumlah test dijumlahkan dan semua suite disalin
+     * @param files file hasil setiap shard
+     * @param target file hasil gabungan
+     */
+    public static void mergeXml(List<Path> files, Path target)
+            throws IOException, ParserConfigurationException, SAXException, TransformerException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+
+        Document merged = builder.newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+        long[] counts = new long[COUNTS.length];
+        for (Path file : files) {
+            Document shard = builder.parse(file.toFile());
+            Element shardRoot = shard.getDocumentElement();
+            for (int i = 0; i < COUNTS.length; i++) {
+                String value = shardRoot.getAttribute(COUNTS[i]);
+                counts[i] += value.isEmpty() ? 0 : Long.parseLong(value);
+            }
+            NodeList children = shardRoot.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                Node child = children.item(i);
+                // Elemen suite dan reporter-output setiap shard disalin apa adanya
+                if (child.getNodeType() == Node.ELEMENT_NODE) {
+                    root.appendChild(merged.importNode(child, true));
+                }
+            }
+        }
+        for (int i = 0; i < COUNTS.length; i++) {
+            root.setAttribute(COUNTS[i], String.valueOf(counts[i]));
+        }
+
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(merged), new StreamResult(target.toFile()));
+    }
+
+    /**
+     * Metode untuk menyambung beberapa file JSONL menjadi satu
+     * @param files file JSONL setiap shard
+     * @param target file JSONL gabungan
+     */
+    public static void mergeJsonl(List<Path> files, Path target) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            for (Path file : files) {
+                try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+                    for (String line : (Iterable<String>) lines::iterator) {
+                        out.write(line);
+                        out.newLine();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Metode untuk memastikan semua shard memakai pembagian yang sama dan tidak ada shard yang hilang atau ganda
+     * @param files file shard-plan.properties setiap shard
+     */
+    static void verifyPlans(List<Path> files) throws IOException {
+        if (files.isEmpty()) {
+            logger.warn("Tidak ada {}, pembagian shard tidak dapat diperiksa", ShardPlanner.PLAN_FILE);
+            return;
+        }
+        Set<String> fingerprints = new TreeSet<>();
+        Set<String> totals = new TreeSet<>();
+        Set<Integer> indexes = new TreeSet<>();
+        for (Path file : files) {
+            Properties plan = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                plan.load(in);
+            }
+            fingerprints.add(plan.getProperty("fingerprint"));
+            totals.add(plan.getProperty("total"));
+            if (!indexes.add(Integer.parseInt(plan.getProperty("index")))) {
+                throw new IllegalStateException("Shard " + plan.getProperty("index") + " ditemukan lebih dari sekali");
+            }
+        }
+        if (fingerprints.size() > 1 || totals.size() > 1) {
+            throw new IllegalStateException("Pembagian shard berbeda antar agent " + fingerprints
+                    + "; sebagian method bisa dijalankan dua kali atau tidak dijalankan");
+        }
+        int total = Integer.parseInt(totals.iterator().next());
+        if (indexes.size() != total) {
+            throw new IllegalStateException("Hanya shard " + indexes + " dari " + total + " yang ditemukan");
+        }
+        logger.info("Pembagian {} shard konsisten, sidik jari {}", total, fingerprints.iterator().next());
+    }
+
+    private static List<Path> find(List<Path> dirs, String fileName) throws IOException {
+        List<Path> found = new ArrayList<>();
+        for (Path dir : dirs) {
+            if (!Files.isDirectory(dir)) {
+                logger.warn("Direktori shard {} tidak ditemukan", dir);
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(dir)) {
+                found.addAll(files.filter(path -> path.getFileName().toString().equals(fileName))
+                        .sorted()
+                        .collect(Collectors.toList()));
+            }
+        }
+        return found;
+    }
+}
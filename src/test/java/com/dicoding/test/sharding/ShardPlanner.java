@@ -0,0 +1,101 @@
+package com.dicoding.test.sharding;
+
+import com.dicoding.test.utils.Hashes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * ShardPlanner membagi test method ke N shard dengan perkiraan waktu yang seimbang
+ * Memakai algoritma Longest Processing Time: method terlama lebih dulu dimasukkan ke shard yang bebannya paling kecil.
+ * Hasilnya deterministik untuk input yang sama, sehingga setiap agent CI menghitung pembagian yang identik
+ */
+public class ShardPlanner {
+    public static final String PLAN_FILE = "shard-plan.properties";
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * Satu shard beserta method dan perkiraan waktunya
+     */
+    public static class Shard {
+        private final int index;
+        private final List<String> methods = new ArrayList<>();
+        private long expectedMillis;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+
+        /**
+         * @return nomor shard, dimulai dari 1
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public List<String> getMethods() {
+            return Collections.unmodifiableList(methods);
+        }
+
+        public long getExpectedMillis() {
+            return expectedMillis;
+        }
+    }
+
+    /**
+     * Metode untuk membagi method ke beberapa shard
+     * @param methods nama lengkap method (kelas dan method)
+     * @param history riwayat durasi method
+     * @param shardCount jumlah shard
+     * @return daftar shard berurutan dari nomor 1
+     */
+    public static List<Shard> plan(List<String> methods, DurationHistory history, int shardCount) {
+        List<String> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong(history::getExpectedMillis).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> byLoad = new PriorityQueue<>(Comparator.comparingLong(Shard::getExpectedMillis)
+                .thenComparingInt(Shard::getIndex));
+        for (int i = 1; i <= Math.max(1, shardCount); i++) {
+            Shard shard = new Shard(i);
+            shards.add(shard);
+            byLoad.add(shard);
+        }
+        for (String method : ordered) {
+            Shard lightest = byLoad.poll();
+            lightest.methods.add(method);
+            lightest.expectedMillis += history.getExpectedMillis(method);
+            byLoad.add(lightest);
+        }
+        return shards;
+    }
+
+    /**
+     * Metode untuk menghitung sidik jari pembagian method ke shard
+     * Semua agent harus mendapat nilai yang sama; nilai yang berbeda berarti daftar method atau riwayat durasinya
+     * berbeda, sehingga ada method yang dijalankan dua kali atau tidak dijalankan sama sekali
+     * @param shards hasil plan
+     * @return 12 karakter heksadesimal pertama SHA-256 dari pasangan method=shard yang diurutkan
+     */
+    public static String fingerprint(List<Shard> shards) {
+        TreeMap<String, Integer> assignment = new TreeMap<>();
+        for (Shard shard : shards) {
+            for (String method : shard.methods) {
+                assignment.put(method, shard.index);
+            }
+        }
+        MessageDigest digest = Hashes.newSha256();
+        assignment.forEach((method, index) ->
+                digest.update((method + "=" + index + "\n").getBytes(StandardCharsets.UTF_8)));
+        return Hashes.toHex(digest.digest()).substring(0, 12);
+    }
+}
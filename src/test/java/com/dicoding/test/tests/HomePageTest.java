@@ -3,6 +3,7 @@ package com.dicoding.test.tests;
 import com.aventstack.extentreports.ExtentTest;
 import com.dicoding.test.base.BaseTest;
 import com.dicoding.test.pages.HomePage;
+import com.dicoding.test.utils.TestConfig;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -17,11 +18,11 @@ public class HomePageTest extends BaseTest {
     @Test(description = "Verifikasi halaman utama Dicoding dapat dimuat dengan benar")
     public void testHomePageLoaded() {
         // Inisialisasi test untuk reporting
-        test = extent.createTest("Verifikasi Halaman Utama",
+        ExtentTest test = createTest("Verifikasi Halaman Utama",
                 "Memverifikasi bahwa halaman utama Dicoding dapat dimuat dengan benar");
 
         // Inisialisasi HomePage
-        HomePage homePage = new HomePage(driver, wait);
+        HomePage homePage = new HomePage(getDriver(), getWait());
 
         // Verifikasi halaman utama dimuat
         Assert.assertTrue(homePage.isPageLoaded(), "Halaman utama tidak dimuat dengan benar");
@@ -34,7 +35,7 @@ public class HomePageTest extends BaseTest {
 
         // Verifikasi URL halaman
         String currentUrl = homePage.getCurrentUrl();
-        Assert.assertTrue(currentUrl.contains("dicoding.com"), "URL halaman tidak sesuai");
+        Assert.assertTrue(TestConfig.isOnSite(currentUrl), "URL halaman tidak sesuai");
         test.pass("URL halaman sesuai: " + currentUrl);
 
         logger.info("Test halaman utama berhasil");
@@ -46,10 +47,10 @@ public class HomePageTest extends BaseTest {
     @Test(description = "Verifikasi navigasi ke modal login")
     public void testNavigateToLogin() {
         // Inisialisasi test untuk reporting
-        test = extent.createTest("Navigasi ke Modal Login", "Memverifikasi navigasi dari halaman utama ke modal login");
+        ExtentTest test = createTest("Navigasi ke Modal Login", "Memverifikasi navigasi dari halaman utama ke modal login");
 
         // Inisialisasi HomePage
-        HomePage homePage = new HomePage(driver, wait);
+        HomePage homePage = new HomePage(getDriver(), getWait());
 
         // Verifikasi halaman utama dimuat
         Assert.assertTrue(homePage.isPageLoaded(), "Halaman utama tidak dimuat dengan benar");
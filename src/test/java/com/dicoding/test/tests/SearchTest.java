@@ -17,11 +17,11 @@ public class SearchTest extends BaseTest {
     @Test(description = "Verifikasi pencarian dengan kata kunci tidak valid")
     public void testSearchWithInvalidKeyword() {
         // Inisialisasi test untuk reporting
-        test = extent.createTest("Pencarian dengan Kata Kunci Tidak Valid",
+        ExtentTest test = createTest("Pencarian dengan Kata Kunci Tidak Valid",
                 "Memverifikasi pencarian dengan kata kunci yang tidak valid");
 
         // Inisialisasi HomePage
-        HomePage homePage = new HomePage(driver, wait);
+        HomePage homePage = new HomePage(getDriver(), getWait());
 
         // Verifikasi halaman utama dimuat
         Assert.assertTrue(homePage.isPageLoaded(), "Halaman utama tidak dimuat dengan benar");
@@ -57,11 +57,11 @@ public class SearchTest extends BaseTest {
     @Test(description = "Verifikasi navigasi kembali ke halaman utama dari halaman hasil pencarian")
     public void testNavigateBackToHomePage() {
         // Inisialisasi test untuk reporting
-        test = extent.createTest("Navigasi Kembali ke Halaman Utama",
+        ExtentTest test = createTest("Navigasi Kembali ke Halaman Utama",
                 "Memverifikasi navigasi kembali ke halaman utama dari halaman hasil pencarian");
 
         // Inisialisasi HomePage
-        HomePage homePage = new HomePage(driver, wait);
+        HomePage homePage = new HomePage(getDriver(), getWait());
 
         // Verifikasi halaman utama dimuat
         Assert.assertTrue(homePage.isPageLoaded(), "Halaman utama tidak dimuat dengan benar");
@@ -0,0 +1,144 @@
+package com.dicoding.test.utils;
+
+import com.dicoding.test.metrics.WaitMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * AdaptiveWait adalah engine wait dengan interval poll yang membesar secara eksponensial
+ * Poll awal rapat (wait.pollMinMs) sehingga kondisi yang cepat terpenuhi tidak tertunda, lalu interval
+ * digandakan sampai wait.pollMaxMs sehingga kondisi yang lambat tidak membanjiri driver dengan request.
+ * Poll pertama ditunda sesuai waktu terpenuhi yang dipelajari untuk locator tersebut (lihat WaitMetrics)
+ */
+public class AdaptiveWait {
+    private static final Logger logger = LogManager.getLogger(AdaptiveWait.class);
+
+    private static final long MIN_POLL_NANOS = Duration.ofMillis(TestConfig.getInt("wait.pollMinMs", 10)).toNanos();
+    private static final long MAX_POLL_NANOS = Duration.ofMillis(TestConfig.getInt("wait.pollMaxMs", 500)).toNanos();
+    // Penundaan awal hanya sebagian dari waktu terpenuhi yang dipelajari, dan tidak lebih dari satu detik
+    private static final double INITIAL_DELAY_FRACTION = 0.8;
+    private static final long MAX_INITIAL_DELAY_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final List<Class<? extends RuntimeException>> DEFAULT_IGNORED =
+            parseIgnored(TestConfig.getString("wait.ignore", "NoSuchElementException,StaleElementReferenceException"));
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final List<Class<? extends RuntimeException>> ignored = new ArrayList<>(DEFAULT_IGNORED);
+
+    /**
+     * Konstruktor untuk AdaptiveWait
+     * @param driver instance WebDriver
+     * @param timeout batas waktu setiap wait
+     */
+    public AdaptiveWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Metode untuk menambahkan exception yang diabaikan selama wait, selain yang diatur di wait.ignore
+     * @param type jenis exception
+     * @return instance ini
+     */
+    public AdaptiveWait ignoring(Class<? extends RuntimeException> type) {
+        ignored.add(type);
+        return this;
+    }
+
+    /**
+     * Metode untuk menunggu sampai kondisi terpenuhi
+     * @param key identitas wait untuk telemetri dan penundaan awal, misalnya jenis kondisi beserta locator
+     * @param condition kondisi; terpenuhi jika hasilnya bukan null dan bukan false
+     * @return hasil kondisi yang terpenuhi
+     * @throws TimeoutException jika kondisi tidak terpenuhi sebelum timeout
+     */
+    public <T> T until(String key, Function<? super WebDriver, T> condition) {
+        WaitMetrics.Wait metrics = WaitMetrics.get(key);
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long delay = Math.min(MAX_INITIAL_DELAY_NANOS, (long) (metrics.getLearnedMillis() * 1e6 * INITIAL_DELAY_FRACTION));
+        if (delay > 0) {
+            sleep(Math.min(delay, timeout.toNanos()));
+        }
+
+        long interval = MIN_POLL_NANOS;
+        int polls = 0;
+        RuntimeException lastError = null;
+        while (true) {
+            polls++;
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    long elapsed = System.nanoTime() - start;
+                    metrics.recordSatisfied(polls, elapsed, delay);
+                    logger.debug("Wait {} terpenuhi setelah {} poll dalam {} ms", key, polls, elapsed / 1_000_000);
+                    return value;
+                }
+            } catch (RuntimeException e) {
+                if (!isIgnored(e)) {
+                    throw e;
+                }
+                lastError = e;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                metrics.recordTimeout(polls);
+                throw new TimeoutException("Kondisi " + key + " tidak terpenuhi dalam " + timeout.toMillis()
+                        + " ms setelah " + polls + " poll", lastError);
+            }
+            sleep(Math.min(interval, remaining));
+            interval = Math.min(interval * 2, MAX_POLL_NANOS);
+        }
+    }
+
+    private boolean isIgnored(RuntimeException e) {
+        for (Class<? extends RuntimeException> type : ignored) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Terinterupsi saat menunggu", e);
+        }
+    }
+
+    /**
+     * Membaca daftar exception dari nama kelas; nama tanpa package dicari di org.openqa.selenium
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Class<? extends RuntimeException>> parseIgnored(String names) {
+        List<Class<? extends RuntimeException>> types = new ArrayList<>();
+        for (String name : names.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String className = trimmed.contains(".") ? trimmed : "org.openqa.selenium." + trimmed;
+            try {
+                Class<?> type = Class.forName(className);
+                if (!RuntimeException.class.isAssignableFrom(type)) {
+                    throw new IllegalArgumentException(className + " bukan RuntimeException");
+                }
+                types.add((Class<? extends RuntimeException>) type);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("Exception di wait.ignore tidak ditemukan: " + trimmed, e);
+            }
+        }
+        return Collections.unmodifiableList(types);
+    }
+}
@@ -0,0 +1,130 @@
+package com.dicoding.test.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+
+/**
+ * DomWaits adalah engine wait berbasis event di dalam browser
+ * Kondisi diperiksa ulang setiap ada perubahan DOM (MutationObserver), perubahan readyState,
+ * atau akhir transisi/animasi melalui executeAsyncScript, sehingga wait selesai beberapa milidetik
+ * setelah kondisi terpenuhi tanpa polling dengan interval tetap
+ */
+public class DomWaits {
+    private static final Logger logger = LogManager.getLogger(DomWaits.class);
+
+    // Batas percobaan ulang jika dokumen berganti (navigasi) saat script sedang menunggu
+    private static final int MAX_DOCUMENT_RETRIES = 5;
+
+    private static final String WAIT_SCRIPT_HEADER = LocatorScripts.FUNCTIONS
+            + "var args = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];";
+
+    private static final String WAIT_SCRIPT_LOOP =
+            "var finished = false, observer = null, timer = null;"
+            + "var events = ['readystatechange', 'load', 'transitionend', 'animationend', 'scrollend'];"
+            + "function evaluate() { try { return !!condition(); } catch (e) { return false; } }"
+            + "function finish(result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true;"
+            + "  if (observer) { observer.disconnect(); }"
+            + "  clearTimeout(timer);"
+            + "  events.forEach(function (name) { window.removeEventListener(name, check, true); });"
+            + "  done(result);"
+            + "}"
+            + "function check() { if (evaluate()) { finish(true); } }"
+            + "if (evaluate()) { done(true); return; }"
+            + "observer = new MutationObserver(check);"
+            + "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "events.forEach(function (name) { window.addEventListener(name, check, true); });"
+            + "timer = setTimeout(function () { finish(evaluate()); }, timeout);";
+
+    /**
+     * Metode untuk menunggu kondisi JavaScript terpenuhi
+     * @param driver instance WebDriver
+     * @param conditionBody isi fungsi condition() yang mengembalikan true jika kondisi terpenuhi,
+     *                      dapat memakai variabel args serta fungsi find() dan isVisible()
+     * @param args argumen yang diteruskan ke script sebagai variabel args
+     * @param timeout batas waktu menunggu
+     * @return true jika kondisi terpenuhi sebelum timeout, false jika tidak
+     */
+    public static boolean waitForCondition(WebDriver driver, String conditionBody, Object args, Duration timeout) {
+        String script = WAIT_SCRIPT_HEADER + "function condition() {" + conditionBody + "}" + WAIT_SCRIPT_LOOP;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int retries = 0;
+        while (true) {
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(script, args, remainingMillis);
+                return Boolean.TRUE.equals(result);
+            } catch (ScriptTimeoutException e) {
+                return false;
+            } catch (WebDriverException e) {
+                // Dokumen berganti saat script menunggu, ulangi pada dokumen yang baru
+                if (++retries > MAX_DOCUMENT_RETRIES) {
+                    throw e;
+                }
+                logger.debug("Dokumen berganti saat menunggu kondisi, mencoba ulang: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Metode untuk menunggu document.readyState bernilai complete
+     * @param driver instance WebDriver
+     * @param timeout batas waktu menunggu
+     * @return true jika halaman selesai dimuat sebelum timeout
+     */
+    public static boolean waitForReadyState(WebDriver driver, Duration timeout) {
+        return waitForCondition(driver, "return document.readyState === 'complete';", null, timeout);
+    }
+
+    /**
+     * Metode untuk menunggu elemen muncul di DOM, dan opsional ditampilkan
+     * @param driver instance WebDriver
+     * @param locator locator elemen
+     * @param visible true jika elemen juga harus ditampilkan
+     * @param timeout batas waktu menunggu
+     * @return true jika elemen ditemukan sebelum timeout
+     */
+    public static boolean waitForElement(WebDriver driver, By locator, boolean visible, Duration timeout) {
+        String condition = visible
+                ? "return find(args).some(isVisible);"
+                : "return find(args).length > 0;";
+        return waitForCondition(driver, condition, LocatorScripts.toScriptLocator(locator), timeout);
+    }
+
+    /**
+     * Metode untuk scroll ke elemen dan menunggu sampai posisi scroll stabil
+     * Selesai pada event scrollend atau setelah dua frame tanpa perubahan posisi
+     * @param driver instance WebDriver
+     * @param element elemen tujuan scroll
+     * @param timeout batas waktu menunggu
+     */
+    public static void scrollIntoView(WebDriver driver, WebElement element, Duration timeout) {
+        ((JavascriptExecutor) driver).executeAsyncScript(
+                "var element = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];"
+                + "var finished = false, lastY = null, stableFrames = 0;"
+                + "function finish() { if (!finished) { finished = true; done(); } }"
+                + "window.addEventListener('scrollend', finish, { once: true });"
+                + "setTimeout(finish, timeout);"
+                + "element.scrollIntoView(true);"
+                + "(function watch() {"
+                + "  if (finished) { return; }"
+                + "  var y = element.getBoundingClientRect().top;"
+                + "  stableFrames = (y === lastY) ? stableFrames + 1 : 0;"
+                + "  lastY = y;"
+                + "  if (stableFrames >= 2) { finish(); } else { requestAnimationFrame(watch); }"
+                + "})();",
+                element, timeout.toMillis());
+    }
+}
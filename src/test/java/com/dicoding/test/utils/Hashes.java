@@ -0,0 +1,73 @@
+package com.dicoding.test.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Hashes berisi utilitas SHA-256 dalam bentuk heksadesimal, dipakai untuk nama file berbasis isi dan checksum
+ */
+public class Hashes {
+
+    private Hashes() {
+    }
+
+    /**
+     * Metode untuk membuat digest SHA-256 baru, untuk isi yang di-hash sedikit demi sedikit
+     * @return digest SHA-256
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 tidak tersedia", e);
+        }
+    }
+
+    /**
+     * @return SHA-256 dari isi byte dalam heksadesimal huruf kecil
+     */
+    public static String sha256(byte[] content) {
+        return toHex(newSha256().digest(content));
+    }
+
+    /**
+     * @return SHA-256 dari teks UTF-8 dalam heksadesimal huruf kecil
+     */
+    public static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Metode untuk menghitung SHA-256 isi file tanpa membaca seluruh file ke memori
+     * @param file file yang di-hash
+     * @return SHA-256 dalam heksadesimal huruf kecil
+     * @throws IOException jika file tidak dapat dibaca
+     */
+    public static String sha256(Path file) throws IOException {
+        MessageDigest digest = newSha256();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * @return byte dalam heksadesimal huruf kecil, dua karakter per byte
+     */
+    public static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
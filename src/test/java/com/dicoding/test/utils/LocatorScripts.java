@@ -0,0 +1,72 @@
+package com.dicoding.test.utils;
+
+import com.dicoding.test.locators.OptimizedLocator;
+import org.openqa.selenium.By;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LocatorScripts berisi potongan JavaScript untuk mencari elemen dari locator Selenium
+ * di dalam browser, sehingga beberapa locator dapat dievaluasi dalam satu executeScript
+ */
+public class LocatorScripts {
+
+    /**
+     * Fungsi JavaScript find(locator) dan isVisible(element)
+     * Parameter locator berbentuk {using: ..., value: ...} hasil dari toScriptLocator
+     */
+    public static final String FUNCTIONS =
+            "function toArray(list) { return Array.prototype.slice.call(list); }"
+            + "function find(l) {"
+            + "  switch (l.using) {"
+            + "    case 'css selector': return toArray(document.querySelectorAll(l.value));"
+            + "    case 'xpath':"
+            + "      var r = document.evaluate(l.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "      var out = [];"
+            + "      for (var i = 0; i < r.snapshotLength; i++) { out.push(r.snapshotItem(i)); }"
+            + "      return out;"
+            + "    case 'id': var e = document.getElementById(l.value); return e ? [e] : [];"
+            + "    case 'name': return toArray(document.getElementsByName(l.value));"
+            + "    case 'class name': return toArray(document.getElementsByClassName(l.value));"
+            + "    case 'tag name': return toArray(document.getElementsByTagName(l.value));"
+            + "    case 'link text': return toArray(document.links).filter(function (a) {"
+            + "      return a.innerText.trim() === l.value; });"
+            + "    case 'partial link text': return toArray(document.links).filter(function (a) {"
+            + "      return a.innerText.indexOf(l.value) >= 0; });"
+            + "  }"
+            + "  throw new Error('Strategi locator tidak didukung: ' + l.using);"
+            + "}"
+            + "function isVisible(e) {"
+            + "  if (!e.isConnected) { return false; }"
+            + "  var s = window.getComputedStyle(e);"
+            + "  if (s.display === 'none' || s.visibility === 'hidden' || s.visibility === 'collapse'"
+            + "      || parseFloat(s.opacity) === 0) { return false; }"
+            + "  var rect = e.getBoundingClientRect();"
+            + "  return rect.width > 0 && rect.height > 0;"
+            + "}";
+
+    /**
+     * Metode untuk mengubah locator Selenium menjadi parameter untuk fungsi find()
+     * @param locator locator Selenium
+     * @return map berisi strategi (using) dan nilai (value) locator
+     * @throws IllegalArgumentException jika locator tidak dapat dievaluasi di browser
+     */
+    public static Map<String, Object> toScriptLocator(By locator) {
+        // Locator teroptimasi dievaluasi sebagai XPath aslinya agar hasilnya sama dengan union utuh
+        if (locator instanceof OptimizedLocator) {
+            Map<String, Object> scriptLocator = new HashMap<>();
+            scriptLocator.put("using", "xpath");
+            scriptLocator.put("value", ((OptimizedLocator) locator).getXpath());
+            return scriptLocator;
+        }
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator tidak dapat dievaluasi di browser: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        Map<String, Object> scriptLocator = new HashMap<>();
+        scriptLocator.put("using", parameters.using());
+        scriptLocator.put("value", String.valueOf(parameters.value()));
+        return scriptLocator;
+    }
+}
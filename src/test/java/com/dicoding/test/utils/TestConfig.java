@@ -0,0 +1,107 @@
+package com.dicoding.test.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * TestConfig membaca konfigurasi test dari system property (-Dkey=value)
+ * Jika property tidak diberikan, nilai default yang digunakan
+ */
+public class TestConfig {
+    private static final Logger logger = LogManager.getLogger(TestConfig.class);
+
+    public static final String DEFAULT_BASE_URL = "https://www.dicoding.com";
+
+    // Base URL yang dipakai suite saat ini, misalnya alamat fixture server lokal
+    private static volatile String baseUrl;
+
+    /**
+     * Metode untuk mendapatkan nilai konfigurasi berupa teks
+     * @param key nama property
+     * @param defaultValue nilai default jika property tidak diberikan
+     * @return nilai property
+     */
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return value.trim();
+    }
+
+    /**
+     * Metode untuk mendapatkan nilai konfigurasi berupa angka
+     * @param key nama property
+     * @param defaultValue nilai default jika property tidak diberikan atau tidak valid
+     * @return nilai property
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            logger.warn("Nilai property {} tidak valid: {}, menggunakan default {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Metode untuk mendapatkan nilai konfigurasi berupa boolean
+     * @param key nama property
+     * @param defaultValue nilai default jika property tidak diberikan
+     * @return nilai property
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Metode untuk mendapatkan base URL website yang diuji
+     * @return base URL yang diatur suite, property base.url, atau URL Dicoding
+     */
+    public static String getBaseUrl() {
+        return baseUrl != null ? baseUrl : getString("base.url", DEFAULT_BASE_URL);
+    }
+
+    /**
+     * Metode untuk mengatur base URL yang dipakai suite
+     * @param url base URL, atau null untuk kembali ke property base.url
+     */
+    public static void setBaseUrl(String url) {
+        baseUrl = url;
+    }
+
+    /**
+     * Metode untuk memeriksa apakah URL berada di website yang diuji
+     * Subdomain dianggap bagian dari website, misalnya academy.dicoding.com untuk www.dicoding.com
+     * @param url URL yang diperiksa
+     * @return true jika host URL sama dengan host base URL atau subdomainnya
+     */
+    public static boolean isOnSite(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            String siteHost = URI.create(getBaseUrl()).getHost();
+            if (host == null || siteHost == null) {
+                return false;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            siteHost = siteHost.toLowerCase(Locale.ROOT);
+            if (siteHost.startsWith("www.")) {
+                siteHost = siteHost.substring(4);
+            }
+            return host.equals(siteHost) || host.endsWith("." + siteHost);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.openqa.selenium.WebElement;
 
 import java.io.File;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.Date;
 
 /**
@@ -24,22 +25,13 @@ public class TestUtils {
     public static void waitForPageLoad(WebDriver driver, int timeoutInSeconds) {
         logger.info("Menunggu halaman dimuat sepenuhnya");
         
-        long endTime = System.currentTimeMillis() + (timeoutInSeconds * 1000);
-        
-        while (System.currentTimeMillis() < endTime) {
-            String state = (String) ((JavascriptExecutor) driver).executeScript("return document.readyState");
-            if (state.equals("complete")) {
-                logger.info("Halaman dimuat sepenuhnya");
-                return;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                logger.error("Terjadi kesalahan saat menunggu halaman dimuat", e);
-            }
+        // Menunggu event readystatechange di browser, bukan polling dengan Thread.sleep
+        if (DomWaits.waitForReadyState(driver, Duration.ofSeconds(timeoutInSeconds))) {
+            logger.info("Halaman dimuat sepenuhnya");
+            return;
         }
         
-        logger.warn("Timeout: Halaman tidak dimuat sepenuhnya dalam " + timeoutInSeconds + " detik");
+        logger.warn("Timeout: Halaman tidak dimuat sepenuhnya dalam {} detik", timeoutInSeconds);
     }
     
     /**
@@ -49,12 +41,8 @@ public class TestUtils {
      */
     public static void scrollToElement(WebDriver driver, WebElement element) {
         logger.info("Scroll ke elemen");
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            logger.error("Terjadi kesalahan saat scroll ke elemen", e);
-        }
+        // Selesai saat scroll berhenti, bukan setelah jeda tetap
+        DomWaits.scrollIntoView(driver, element, Duration.ofSeconds(2));
     }
     
     /**
@@ -76,10 +64,10 @@ public class TestUtils {
         if (!directory.exists()) {
             boolean created = directory.mkdirs();
             if (created) {
-                logger.info("Direktori berhasil dibuat: " + directoryPath);
+                logger.info("Direktori berhasil dibuat: {}", directoryPath);
                 return true;
             } else {
-                logger.error("Gagal membuat direktori: " + directoryPath);
+                logger.error("Gagal membuat direktori: {}", directoryPath);
                 return false;
             }
         }
@@ -88,18 +76,17 @@ public class TestUtils {
     
     /**
      * Metode untuk highlight elemen
+     * Style asli dikembalikan oleh browser setelah 500 ms, test tidak perlu menunggu
      * @param driver instance WebDriver
      * @param element elemen yang akan di-highlight
      */
     public static void highlightElement(WebDriver driver, WebElement element) {
         JavascriptExecutor js = (JavascriptExecutor) driver;
-        String originalStyle = element.getAttribute("style");
-        js.executeScript("arguments[0].setAttribute('style', 'border: 2px solid red; background: yellow;');", element);
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            logger.error("Terjadi kesalahan saat highlight elemen", e);
-        }
-        js.executeScript("arguments[0].setAttribute('style', '" + originalStyle + "');", element);
+        js.executeScript("var element = arguments[0], originalStyle = element.getAttribute('style');"
+                + "element.setAttribute('style', 'border: 2px solid red; background: yellow;');"
+                + "setTimeout(function () {"
+                + "  if (originalStyle === null) { element.removeAttribute('style'); }"
+                + "  else { element.setAttribute('style', originalStyle); }"
+                + "}, 500);", element);
     }
 }